@@ -0,0 +1,67 @@
+// Load test for GET /expenses and POST /expenses.
+//
+// Run once with platform threads and once with EXPENSE_TRACKER_VIRTUAL_THREADS=true
+// against the same database, then compare the exported summaries:
+//
+//   k6 run -e BASE_URL=http://localhost:8080/api/expense-tracker -e VUS=500 \
+//       --summary-export=platform.json loadtest/expenses.js
+//
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/expense-tracker';
+const VUS = parseInt(__ENV.VUS || '500');
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        list: {
+            executor: 'constant-vus',
+            exec: 'listExpenses',
+            vus: Math.ceil(VUS * 0.8),
+            duration: DURATION,
+        },
+        create: {
+            executor: 'constant-vus',
+            exec: 'createExpense',
+            vus: Math.floor(VUS * 0.2),
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const username = `loadtest-${Date.now()}`;
+    http.post(`${BASE_URL}/auth/register`, JSON.stringify({
+        username: username,
+        email: `${username}@example.com`,
+        password: 'loadtest-password',
+    }), { headers: { 'Content-Type': 'application/json' } });
+
+    const login = http.post(`${BASE_URL}/auth/login`, {
+        username: username,
+        password: 'loadtest-password',
+    });
+    return { token: login.json('data.accessToken') };
+}
+
+function authHeaders(token) {
+    return { Authorization: `Bearer ${token}`, 'Content-Type': 'application/json' };
+}
+
+export function listExpenses(data) {
+    const res = http.get(`${BASE_URL}/expenses?page=0&size=20`, { headers: authHeaders(data.token) });
+    check(res, { 'list 200': (r) => r.status === 200 });
+}
+
+export function createExpense(data) {
+    const res = http.post(`${BASE_URL}/expenses`, JSON.stringify({
+        title: 'Load test',
+        category: 'Testing',
+        amount: 100,
+        date: new Date().toISOString(),
+        description: 'k6',
+    }), { headers: authHeaders(data.token) });
+    check(res, { 'create 201': (r) => r.status === 201 });
+}
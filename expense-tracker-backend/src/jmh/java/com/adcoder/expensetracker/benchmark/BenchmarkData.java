@@ -0,0 +1,43 @@
+package com.adcoder.expensetracker.benchmark;
+
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.mapper.ExpenseMapper;
+import com.adcoder.expensetracker.model.AuthUser;
+import com.adcoder.expensetracker.model.Expense;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic sample data so runs are comparable across machines and commits.
+ */
+final class BenchmarkData {
+
+    private static final String[] CATEGORIES = {"Food", "Travel", "Bills", "Shopping", "Health"};
+
+    private BenchmarkData() {
+    }
+
+    static Expense expense(long id, AuthUser user, OffsetDateTime date) {
+        return Expense.builder()
+                .id(id)
+                .authUser(user)
+                .title("Expense #" + id)
+                .category(CATEGORIES[(int) (id % CATEGORIES.length)])
+                .amount(100 + (id * 37) % 10_000)
+                .date(date.minusHours(id))
+                .description("Benchmark description for expense " + id)
+                .createdAt(date)
+                .updatedAt(date)
+                .build();
+    }
+
+    static List<ExpenseResponse> responses(int count, OffsetDateTime date) {
+        AuthUser user = AuthUser.builder().id(42L).username("benchmark-user").build();
+        List<ExpenseResponse> responses = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            responses.add(ExpenseMapper.toExpenseResponseDto(expense(id, user, date)));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,129 @@
+package com.adcoder.expensetracker.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second for N independent creates (one statement and one commit each, like
+ * N calls to POST /expenses) against one transaction of JDBC batches of 50 rows, like
+ * POST /expenses/batch. Needs a database migrated by the application; see build.gradle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ExpenseInsertBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 50;
+    private static final String INSERT = """
+            INSERT INTO expense (user_id, title, category, amount, date, description, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private Connection connection;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("benchmark.db.username"));
+        properties.setProperty("password", System.getProperty("benchmark.db.password"));
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(System.getProperty("benchmark.db.url"), properties);
+
+        String username = "jmh-" + System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO auth_user (username, email, password) VALUES (?, ?, ?) RETURNING id")) {
+            statement.setString(1, username);
+            statement.setString(2, username + "@example.com");
+            statement.setString(3, "not-a-real-hash");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                userId = resultSet.getLong(1);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM expense WHERE user_id = ?")) {
+            statement.setLong(1, userId);
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM expense_rollup WHERE user_id = ?")) {
+            statement.setLong(1, userId);
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM auth_user WHERE id = ?")) {
+            statement.setLong(1, userId);
+            statement.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleCreates() throws SQLException {
+        connection.setAutoCommit(true);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(statement, i);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batchCreate() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(statement, i);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } catch (SQLException ex) {
+            connection.rollback();
+            throw ex;
+        }
+    }
+
+    private void bind(PreparedStatement statement, int i) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        statement.setLong(1, userId);
+        statement.setString(2, "Benchmark expense " + i);
+        statement.setString(3, i % 2 == 0 ? "Food" : "Travel");
+        statement.setLong(4, 100L + i);
+        statement.setTimestamp(5, now);
+        statement.setString(6, "JMH");
+        statement.setTimestamp(7, now);
+        statement.setTimestamp(8, now);
+    }
+}
@@ -0,0 +1,51 @@
+package com.adcoder.expensetracker.benchmark;
+
+import com.adcoder.expensetracker.dto.ExpenseRequest;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.mapper.ExpenseMapper;
+import com.adcoder.expensetracker.model.AuthUser;
+import com.adcoder.expensetracker.model.Expense;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpenseMapperBenchmark {
+
+    private Expense expense;
+    private ExpenseRequest request;
+    private AuthUser user;
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime date = OffsetDateTime.of(2025, 3, 14, 12, 30, 0, 0, ZoneOffset.UTC);
+        user = AuthUser.builder().id(42L).username("benchmark-user").build();
+        expense = BenchmarkData.expense(1L, user, date);
+        request = ExpenseRequest.builder()
+                .title(expense.getTitle())
+                .category(expense.getCategory())
+                .amount(expense.getAmount())
+                .date(date)
+                .description(expense.getDescription())
+                .build();
+    }
+
+    @Benchmark
+    public ExpenseResponse toExpenseResponseDto() {
+        return ExpenseMapper.toExpenseResponseDto(expense);
+    }
+
+    @Benchmark
+    public Expense toExpenseEntity() {
+        return ExpenseMapper.toExpenseEntity(request, user);
+    }
+}
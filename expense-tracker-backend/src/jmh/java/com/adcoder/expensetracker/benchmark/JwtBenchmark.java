@@ -0,0 +1,55 @@
+package com.adcoder.expensetracker.benchmark;
+
+import com.adcoder.expensetracker.model.AuthUser;
+import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.adcoder.expensetracker.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private AuthUser user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        jwtUtil.setSecret("4eBLTn6R28+IB3OJFI9kLS0vBBSE4D1iWJkyr0WPmEg=");
+        jwtUtil.setDuration(15L);
+        jwtUtil.initialize();
+
+        user = AuthUser.builder().id(42L).username("benchmark-user").build();
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal createJwtPrincipal() {
+        return jwtUtil.createJwtPrincipal(token);
+    }
+
+    // Warm path of JwtAuthFilter: the token is already in the verified-token cache
+    @Benchmark
+    public JwtPrincipal resolvePrincipalCached() {
+        return jwtUtil.resolvePrincipal(token);
+    }
+}
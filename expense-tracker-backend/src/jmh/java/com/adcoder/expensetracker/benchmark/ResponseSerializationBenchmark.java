@@ -0,0 +1,94 @@
+package com.adcoder.expensetracker.benchmark;
+
+import com.adcoder.expensetracker.common.ApiResponse;
+import com.adcoder.expensetracker.config.BinaryFormatConfig;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the GET /expenses response body in each supported encoding. The mappers
+ * come from Spring Boot's own Jackson auto-configuration, with the application's properties,
+ * so the JSON baseline writes exactly what the application sends.
+ * {@code payloadBytes} is the size of one serialized response, i.e. bytes on the wire
+ * before compression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "500"})
+    public int pageSize;
+
+    @Param({"json", "cbor", "smile"})
+    public String encoding;
+
+    @Param({"false", "true"})
+    public boolean lean;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<ExpenseResponse>> response;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run()) {
+            // The builder bean is a prototype, so each lookup starts from Boot's configuration
+            Jackson2ObjectMapperBuilder builder = context.getBean(Jackson2ObjectMapperBuilder.class);
+            objectMapper = switch (encoding) {
+                case "cbor" -> BinaryFormatConfig.binaryObjectMapper(builder, new CBORFactory());
+                case "smile" -> BinaryFormatConfig.binaryObjectMapper(builder, new SmileFactory());
+                default -> context.getBean(ObjectMapper.class);
+            };
+        }
+        OffsetDateTime date = OffsetDateTime.of(2025, 3, 14, 12, 30, 0, 0, ZoneOffset.UTC);
+        Page<ExpenseResponse> page = new PageImpl<>(
+                BenchmarkData.responses(pageSize, date), PageRequest.of(0, pageSize), 10_000);
+        response = ApiResponse.<Page<ExpenseResponse>>builder()
+                .statusCode(200)
+                .message(lean ? null : "Fetched all expenses")
+                .timestamp(lean ? null : date)
+                .data(page)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializePage(Payload payload) throws JsonProcessingException {
+        byte[] bytes = objectMapper.writeValueAsBytes(response);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+}
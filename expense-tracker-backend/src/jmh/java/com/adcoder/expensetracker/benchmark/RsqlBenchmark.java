@@ -0,0 +1,63 @@
+package com.adcoder.expensetracker.benchmark;
+
+import com.adcoder.expensetracker.model.Expense;
+import com.adcoder.expensetracker.service.impl.RsqlSpecificationFactory;
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.perplexhub.rsql.RSQLJPASupport;
+import io.github.perplexhub.rsql.RSQLOperators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RSQL filters as the frontend sends them. {@code toSpecification} only captures the
+ * filter; the library parses it while building the predicate, which needs a live JPA
+ * metamodel. {@code parse} measures that parsing step on its own, and {@code cachedParse}
+ * the same filter served from {@link RsqlSpecificationFactory}'s AST cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RsqlBenchmark {
+
+    @Param({
+            "category==Food",
+            "date=ge=2025-01-01T00:00:00Z;date=lt=2025-02-01T00:00:00Z",
+            "category=in=(Food,Travel,Bills);amount=gt=500;title=ilike=*coffee*"
+    })
+    public String filter;
+
+    private RSQLParser parser;
+    private RsqlSpecificationFactory factory;
+
+    @Setup
+    public void setUp() {
+        parser = new RSQLParser(RSQLOperators.supportedOperators());
+        factory = new RsqlSpecificationFactory(new SimpleMeterRegistry(), 1000);
+        factory.parse(filter);
+    }
+
+    @Benchmark
+    public Specification<Expense> toSpecification() {
+        return RSQLJPASupport.toSpecification(filter);
+    }
+
+    @Benchmark
+    public Node parse() {
+        return parser.parse(filter);
+    }
+
+    @Benchmark
+    public Node cachedParse() {
+        return factory.parse(filter);
+    }
+}
@@ -0,0 +1,14 @@
+package com.adcoder.expensetracker.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * Media types accepted in {@code produces} by the read endpoints, besides JSON.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ApiMediaTypes {
+    public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+}
@@ -1,5 +1,6 @@
 package com.adcoder.expensetracker.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,7 +13,9 @@ import java.time.OffsetDateTime;
 @AllArgsConstructor
 public class ApiResponse <T> {
     private int statusCode;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String message;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private OffsetDateTime timestamp;
     private T data;
 }
\ No newline at end of file
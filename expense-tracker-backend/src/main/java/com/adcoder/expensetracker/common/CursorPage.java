@@ -0,0 +1,22 @@
+package com.adcoder.expensetracker.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing. Unlike {@code Page} it carries no
+ * total count; {@code nextCursor} is passed back to fetch the following slice.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
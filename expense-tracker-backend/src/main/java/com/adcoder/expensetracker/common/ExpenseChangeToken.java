@@ -0,0 +1,38 @@
+package com.adcoder.expensetracker.common;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+
+/**
+ * Opaque delta-sync position: the last {@code (updatedAt, id)} of changed expenses and the last
+ * {@code (deletedAt, expenseId)} of tombstones the client has seen. Clients must treat the encoded
+ * form as an opaque string.
+ */
+public record ExpenseChangeToken(Instant upsertsAfter, long upsertsAfterId, Instant deletesAfter, long deletesAfterId) {
+
+    private static final String TOKEN_NAME = "change token";
+
+    public static ExpenseChangeToken at(Instant instant) {
+        return new ExpenseChangeToken(instant, 0, instant, 0);
+    }
+
+    public String encode() {
+        return TokenCodec.encode(
+                upsertsAfter.getEpochSecond(), upsertsAfter.getNano(), upsertsAfterId,
+                deletesAfter.getEpochSecond(), deletesAfter.getNano(), deletesAfterId);
+    }
+
+    public static ExpenseChangeToken decode(String token) {
+        String[] fields = TokenCodec.decode(token, 6, TOKEN_NAME);
+        try {
+            return new ExpenseChangeToken(
+                    Instant.ofEpochSecond(Long.parseLong(fields[0]), Long.parseLong(fields[1])),
+                    Long.parseLong(fields[2]),
+                    Instant.ofEpochSecond(Long.parseLong(fields[3]), Long.parseLong(fields[4])),
+                    Long.parseLong(fields[5]));
+        } catch (NumberFormatException | DateTimeException | ArithmeticException ex) {
+            // ArithmeticException: nanos that push the seconds past Long.MAX_VALUE
+            throw TokenCodec.invalid(TOKEN_NAME);
+        }
+    }
+}
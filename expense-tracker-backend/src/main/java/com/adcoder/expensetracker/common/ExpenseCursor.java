@@ -0,0 +1,30 @@
+package com.adcoder.expensetracker.common;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Opaque continuation token over the {@code (date, id)} ordering of expenses.
+ * Clients must treat the encoded form as an opaque string.
+ */
+public record ExpenseCursor(OffsetDateTime date, Long id) {
+
+    private static final String TOKEN_NAME = "cursor";
+
+    public String encode() {
+        Instant instant = date.toInstant();
+        return TokenCodec.encode(instant.getEpochSecond(), instant.getNano(), id);
+    }
+
+    public static ExpenseCursor decode(String token) {
+        String[] fields = TokenCodec.decode(token, 3, TOKEN_NAME);
+        try {
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(fields[0]), Long.parseLong(fields[1]));
+            return new ExpenseCursor(instant.atOffset(ZoneOffset.UTC), Long.parseLong(fields[2]));
+        } catch (NumberFormatException | DateTimeException | ArithmeticException ex) {
+            throw TokenCodec.invalid(TOKEN_NAME);
+        }
+    }
+}
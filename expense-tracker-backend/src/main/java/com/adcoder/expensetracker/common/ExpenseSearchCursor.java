@@ -0,0 +1,24 @@
+package com.adcoder.expensetracker.common;
+
+/**
+ * Opaque continuation token over the {@code (rank, id)} ordering of search results.
+ * The rank is carried as its exact float bits so the next page starts precisely after it.
+ */
+public record ExpenseSearchCursor(float rank, Long id) {
+
+    private static final String TOKEN_NAME = "cursor";
+
+    public String encode() {
+        return TokenCodec.encode(Integer.toHexString(Float.floatToIntBits(rank)), id);
+    }
+
+    public static ExpenseSearchCursor decode(String token) {
+        String[] fields = TokenCodec.decode(token, 2, TOKEN_NAME);
+        try {
+            float rank = Float.intBitsToFloat(Integer.parseUnsignedInt(fields[0], 16));
+            return new ExpenseSearchCursor(rank, Long.parseLong(fields[1]));
+        } catch (NumberFormatException ex) {
+            throw TokenCodec.invalid(TOKEN_NAME);
+        }
+    }
+}
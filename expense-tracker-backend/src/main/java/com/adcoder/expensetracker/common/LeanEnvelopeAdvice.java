@@ -0,0 +1,41 @@
+package com.adcoder.expensetracker.common;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Drops {@code message} and {@code timestamp} from successful {@link ApiResponse} bodies when
+ * the request asks for {@code envelope=lean}, leaving only the status code and data. Error
+ * responses keep their message.
+ */
+@RestControllerAdvice
+public class LeanEnvelopeAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String ENVELOPE_PARAM = "envelope";
+    public static final String LEAN = "lean";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof ApiResponse<?> apiResponse
+                && apiResponse.getStatusCode() < 400
+                && request instanceof ServletServerHttpRequest servletRequest
+                && LEAN.equals(servletRequest.getServletRequest().getParameter(ENVELOPE_PARAM))) {
+            apiResponse.setMessage(null);
+            apiResponse.setTimestamp(null);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,49 @@
+package com.adcoder.expensetracker.common;
+
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * Wire format shared by the opaque tokens in this package: colon separated fields, encoded as
+ * URL-safe Base64 without padding. Parsing the fields is left to each token type.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TokenCodec {
+
+    private static final String SEPARATOR = ":";
+
+    static String encode(Object... fields) {
+        String raw = Arrays.stream(fields).map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits the token back into its fields.
+     *
+     * @throws ExpenseTrackerException with 400 if the token is not Base64 or does not hold exactly
+     *                                 {@code fieldCount} fields
+     */
+    static String[] decode(String token, int fieldCount, String tokenName) {
+        String[] fields;
+        try {
+            fields = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException ex) {
+            throw invalid(tokenName);
+        }
+        if (fields.length != fieldCount) {
+            throw invalid(tokenName);
+        }
+        return fields;
+    }
+
+    // ✅ Helper: the 400 for a token whose fields do not parse
+    static ExpenseTrackerException invalid(String tokenName) {
+        return new ExpenseTrackerException("Invalid " + tokenName, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,40 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.audit")
+public class AuditProperties {
+    /**
+     * Record expense writes in expense_audit.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Entries waiting to be written. When full, new entries are dropped and counted in
+     * expense.audit.dropped rather than slowing requests down.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Rows written per INSERT statement.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest time an entry waits for a batch to fill before it is written anyway.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * How long shutdown waits for queued entries to be written.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(10);
+}
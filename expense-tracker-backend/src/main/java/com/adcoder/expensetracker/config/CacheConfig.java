@@ -0,0 +1,43 @@
+package com.adcoder.expensetracker.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Collection versions get their own spec: a short TTL bounds how long a lost invalidation can
+     * keep serving a stale version, which the user cache spec is far too long for.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> expenseVersionsCacheCustomizer(
+            @Value("${expense.cache.versions.spec}") String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(CacheNames.EXPENSE_VERSIONS,
+                Caffeine.from(spec).build());
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class CacheNames {
+        /**
+         * {@code UserProfile} records (no password hash) keyed by user id. Sized and expired through
+         * {@code spring.cache.caffeine.spec}.
+         */
+        public static final String AUTH_USERS = "auth-users";
+
+        /**
+         * Per user expense collection version used for ETags, keyed by user id. Evicted on
+         * every instance after each expense write. Sized and expired through
+         * {@code expense.cache.versions.spec}.
+         */
+        public static final String EXPENSE_VERSIONS = "expense-versions";
+    }
+}
@@ -0,0 +1,40 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.cache.invalidation")
+public class CacheInvalidationProperties {
+    /**
+     * Share cache evictions with the other backend instances through Postgres LISTEN/NOTIFY.
+     * When false, evictions only apply to the local caches.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Postgres notification channel. Must be a plain lower-case identifier.
+     */
+    private String channel = "cache_invalidation";
+
+    /**
+     * How long the listener waits for notifications per loop. Outgoing evictions are batched
+     * over the same interval.
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /**
+     * Evictions waiting to be sent. On overflow the next batch tells every instance to clear
+     * all caches instead.
+     */
+    private int queueCapacity = 10_000;
+
+    private Duration reconnectInitialBackoff = Duration.ofMillis(500);
+    private Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+}
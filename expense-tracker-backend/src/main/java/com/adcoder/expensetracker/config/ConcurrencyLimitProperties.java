@@ -0,0 +1,25 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.concurrency")
+public class ConcurrencyLimitProperties {
+    /**
+     * Requests allowed to run at once when served on virtual threads. Keep it a small
+     * multiple of the Hikari pool size so waiting happens here, not inside the pool.
+     */
+    private int maxInFlight = 40;
+
+    /**
+     * How long a request may wait for a slot before it is rejected with 503.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,27 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.batch")
+public class ExpenseBatchProperties {
+    /**
+     * Rows persisted between two flushes; should match hibernate.jdbc.batch_size.
+     */
+    private int size = 50;
+
+    /**
+     * Largest number of expenses accepted by a single batch request.
+     */
+    private int maxItems = 1000;
+
+    /**
+     * Rows removed per transaction by a delete-by-filter request.
+     */
+    private int deleteChunkSize = 500;
+}
@@ -0,0 +1,36 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.changes")
+public class ExpenseChangesProperties {
+    /**
+     * Upserts plus tombstones returned by one delta-sync call; the client follows nextToken for more.
+     */
+    private int maxChanges = 500;
+
+    /**
+     * How far behind "now" a caught-up token is placed, so writes that committed late, clock skew
+     * between instances and replica lag are picked up on the next call. Changes inside the window
+     * may be sent twice.
+     */
+    private Duration settleWindow = Duration.ofSeconds(30);
+
+    /**
+     * Tombstones older than this are pruned; tokens older than this get 410 and need a full reload.
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * Tombstones removed per statement while pruning.
+     */
+    private int pruneBatchSize = 5000;
+}
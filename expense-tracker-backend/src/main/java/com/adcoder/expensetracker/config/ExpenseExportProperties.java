@@ -0,0 +1,35 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.export")
+public class ExpenseExportProperties {
+    /**
+     * Rows the JDBC driver fetches per round trip while streaming an export.
+     */
+    private int fetchSize = 500;
+
+    /**
+     * Rows written between two flushes of the response stream.
+     */
+    private int flushEvery = 1000;
+
+    /**
+     * Exports allowed to stream at once. Each one holds a pooled connection until the client has
+     * downloaded the whole file, so keep it well below the Hikari pool size.
+     */
+    private int maxConcurrent = 4;
+
+    /**
+     * Retry-After sent with 503 responses when every export slot is taken.
+     */
+    private Duration retryAfter = Duration.ofSeconds(30);
+}
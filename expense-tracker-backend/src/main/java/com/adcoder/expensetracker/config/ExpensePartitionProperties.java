@@ -0,0 +1,18 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.partitions")
+public class ExpensePartitionProperties {
+    /**
+     * Monthly expense partitions kept ready ahead of the current month. Rows dated beyond them
+     * land in expense_default and are moved into their own partition once its month comes up.
+     */
+    private int monthsAhead = 12;
+}
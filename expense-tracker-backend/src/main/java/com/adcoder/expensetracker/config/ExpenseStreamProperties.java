@@ -0,0 +1,41 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.stream")
+public class ExpenseStreamProperties {
+    /**
+     * Events buffered per subscriber. A subscriber whose buffer fills up is disconnected and
+     * resyncs through the changes endpoint when it reconnects.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Interval between heartbeat comments, which keep idle connections open through proxies
+     * and let dead ones be detected.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Lifetime of one stream connection. Browsers reconnect on their own once it ends.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Delay before a browser reconnects after the stream ends, sent as the SSE retry field.
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+
+    /**
+     * Open streams allowed per user; further connections are rejected with 429.
+     */
+    private int maxSubscribersPerUser = 10;
+}
@@ -0,0 +1,23 @@
+package com.adcoder.expensetracker.config;
+
+import com.adcoder.expensetracker.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Meters that are not bound automatically. Spring Boot already exports HTTP, Hikari,
+ * Spring Data repository and {@code CacheManager} cache metrics; this adds the
+ * caches that live outside the {@code CacheManager}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder jwtVerifiedTokenCacheMetrics(JwtUtil jwtUtil) {
+        return (MeterRegistry registry) ->
+                CaffeineCacheMetrics.monitor(registry, jwtUtil.getVerifiedTokenCache(), "jwt-verified-tokens");
+    }
+}
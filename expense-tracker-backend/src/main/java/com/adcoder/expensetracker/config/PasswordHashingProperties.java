@@ -0,0 +1,42 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+    /**
+     * BCrypt work factor (log2 rounds). Stored hashes with a lower cost are rehashed on the
+     * next successful login.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads that run BCrypt. Defaults to one per core, since hashing is pure CPU work.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Hashing tasks allowed to wait for a thread. Further requests are rejected with 503.
+     * Lowered at startup if running and waiting tasks would hold more than half of the
+     * server's worker threads.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * How long a request waits for its hashing task to finish before giving up with 503.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Retry-After sent with 503 responses when hashing is saturated.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,70 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.rate-limit")
+public class RateLimitProperties {
+    /**
+     * Throttle requests per signed-in user, or per client IP where nobody is signed in.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Buckets kept in memory. Idle buckets are dropped once they would have refilled anyway,
+     * and the least recently used ones go first beyond this size.
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * Addresses or CIDR ranges of reverse proxies in front of the backend, for example
+     * {@code 10.0.0.0/8}. Requests from them are keyed by the client address in
+     * {@code X-Forwarded-For}; every other request by its peer address. Empty trusts nobody.
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    /**
+     * Applies to every request no route below matches.
+     */
+    private Limit defaultLimit = new Limit();
+
+    /**
+     * Checked in order; the first match decides the limit. Each route has its own buckets.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        /**
+         * Requests allowed in a burst. The bucket refills at capacity per period.
+         */
+        private int capacity = 300;
+        private Duration period = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Route extends Limit {
+        private String name;
+
+        /**
+         * Servlet path pattern, for example {@code /expenses/export} or {@code /budgets/**}.
+         */
+        private String pattern;
+
+        /**
+         * HTTP methods the route applies to; empty for all.
+         */
+        private List<String> methods = new ArrayList<>();
+    }
+}
@@ -0,0 +1,93 @@
+package com.adcoder.expensetracker.config;
+
+import com.adcoder.expensetracker.security.JwtPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions of authenticated users to the replica and everything else to
+ * the primary.
+ * <p>
+ * A read-write transaction marks its user and client in the {@link ReadYourWritesTracker}, and
+ * their reads go to the primary until the window expires, on whichever instance they land. Without a user there is nothing to
+ * track, so login right after registration and work on background threads read the primary. Must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: the read-only flag is only known once the
+ * transaction has started, after the connection would normally have been fetched.
+ * <p>
+ * Reads that must never see replication lag run through {@link #onPrimary}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final ReadYourWritesTracker tracker;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker tracker, MeterRegistry meterRegistry) {
+        this.tracker = tracker;
+        this.primaryRoutes = routeCounter(meterRegistry, Target.PRIMARY);
+        this.replicaRoutes = routeCounter(meterRegistry, Target.REPLICA);
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, Target target) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out by the read/write routing data source")
+                .tag("target", target.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code action} with every connection it opens taken from the primary, read-only or not.
+     * Has no effect on a connection the caller already holds. Safe to call without a replica.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            } else {
+                PRIMARY_ONLY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                tracker.recordWrite(userId);
+            }
+            primaryRoutes.increment();
+            return Target.PRIMARY;
+        }
+
+        if (userId == null || PRIMARY_ONLY.get() != null || tracker.wroteRecently(userId)) {
+            primaryRoutes.increment();
+            return Target.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Target.REPLICA;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
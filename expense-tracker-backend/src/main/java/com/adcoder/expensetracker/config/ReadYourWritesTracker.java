@@ -0,0 +1,81 @@
+package com.adcoder.expensetracker.config;
+
+import com.adcoder.expensetracker.security.CookieUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users wrote recently. Entries expire after the configured window, so
+ * checking a user is a single map lookup and memory is bounded by active writers.
+ * <p>
+ * The map only covers this instance. So that the next read still reaches the primary when a
+ * load balancer sends it to another instance, a write also sets a {@code last_write} cookie that
+ * lives for the window; any instance treats a client presenting a fresh one as a recent writer.
+ * The cookie is not signed: a forged one can only move that client's reads to the primary.
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAX_TRACKED_USERS = 100_000;
+    private static final String MARKED_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".MARKED";
+
+    private final Duration window;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.window = window;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_TRACKED_USERS)
+                .build();
+    }
+
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+        markClient();
+    }
+
+    public boolean wroteRecently(Long userId) {
+        return recentWriters.getIfPresent(userId) != null || clientWroteRecently();
+    }
+
+    // 🔍 Helper: Set the cookie once per request, while the response can still take headers
+    private void markClient() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted() || request.getAttribute(MARKED_ATTRIBUTE) != null) {
+            return;
+        }
+        request.setAttribute(MARKED_ATTRIBUTE, Boolean.TRUE);
+        response.addHeader(HttpHeaders.SET_COOKIE,
+                CookieUtil.createLastWriteCookie(System.currentTimeMillis(), window).toString());
+    }
+
+    private boolean clientWroteRecently() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || attributes.getRequest().getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : attributes.getRequest().getCookies()) {
+            if (CookieUtil.LAST_WRITE_COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    long writtenAt = Long.parseLong(cookie.getValue());
+                    return System.currentTimeMillis() - writtenAt < window.toMillis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
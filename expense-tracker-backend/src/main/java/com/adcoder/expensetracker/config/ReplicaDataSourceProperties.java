@@ -0,0 +1,33 @@
+package com.adcoder.expensetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Connection settings for the read replica. Pool tuning is bound separately from
+ * {@code expense.datasource.replica.hikari.*}, like {@code spring.datasource.hikari.*} for the primary.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.datasource.replica")
+public class ReplicaDataSourceProperties {
+    /**
+     * Route read-only transactions to the replica. When false the primary pool serves everything.
+     */
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+
+    /**
+     * After a user's own write, their reads stay on the primary for this long so they see
+     * the change even while the replica lags. Should exceed the usual replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
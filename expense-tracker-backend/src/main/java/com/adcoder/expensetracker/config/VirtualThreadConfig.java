@@ -0,0 +1,64 @@
+package com.adcoder.expensetracker.config;
+
+import com.adcoder.expensetracker.filter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual-thread request execution for Undertow, enabled with {@code spring.threads.virtual.enabled=true}.
+ * <p>
+ * Spring Boot switches Tomcat and Jetty to virtual threads on its own but leaves Undertow on its
+ * XNIO worker pool. Here every servlet request, including the security filter chain and the
+ * service layer below it, is dispatched to a fresh virtual thread instead. The XNIO I/O threads
+ * still handle the sockets. Concurrency is then bounded by {@link ConcurrencyLimitFilter} rather
+ * than by the worker pool size.
+ * <p>
+ * Experimental: the mode has not been load-tested against the worker pool yet (see
+ * {@code loadtest/expenses.js}), so it stays off by default.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService undertowVirtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("undertow-vt-", 0).factory());
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreadCustomizer(
+            ExecutorService undertowVirtualThreadExecutor) {
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> {
+            log.info("Dispatching Undertow servlet requests to virtual threads");
+            deploymentInfo.setExecutor(undertowVirtualThreadExecutor);
+            deploymentInfo.setAsyncExecutor(undertowVirtualThreadExecutor);
+        });
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        ConcurrencyLimitFilter filter =
+                new ConcurrencyLimitFilter(properties.getMaxInFlight(), properties.getAcquireTimeout());
+        Gauge.builder("http.server.requests.in.flight.available", filter, ConcurrencyLimitFilter::getAvailablePermits)
+                .description("Free request slots under expense.concurrency.max-in-flight")
+                .register(meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        // Ahead of Spring Security so floods are shed before any token work
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
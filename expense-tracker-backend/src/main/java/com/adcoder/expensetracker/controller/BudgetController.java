@@ -0,0 +1,116 @@
+package com.adcoder.expensetracker.controller;
+
+import com.adcoder.expensetracker.common.ApiMediaTypes;
+import com.adcoder.expensetracker.common.ApiResponse;
+import com.adcoder.expensetracker.dto.BudgetEventResponse;
+import com.adcoder.expensetracker.dto.BudgetRequest;
+import com.adcoder.expensetracker.dto.BudgetResponse;
+import com.adcoder.expensetracker.dto.BudgetStatusResponse;
+import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.adcoder.expensetracker.service.BudgetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/budgets")
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetController {
+
+    private final BudgetService budgetService;
+
+    private JwtPrincipal getCurrentUserJwtPrincipal() {
+        return (JwtPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    @GetMapping(
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<List<BudgetResponse>>> getBudgets() {
+        return buildResponse(HttpStatus.OK, "Fetched budgets", budgetService.getBudgets());
+    }
+
+    @PutMapping("/{category}")
+    public ResponseEntity<ApiResponse<BudgetResponse>> putBudget(
+            @PathVariable String category,
+            @RequestBody BudgetRequest request
+    ) {
+        return buildResponse(
+                HttpStatus.OK,
+                "Budget saved for category: " + category,
+                budgetService.putBudget(category, request));
+    }
+
+    @DeleteMapping("/{category}")
+    public ResponseEntity<ApiResponse<Void>> deleteBudget(@PathVariable String category) {
+        budgetService.deleteBudget(category);
+        return buildResponse(HttpStatus.NO_CONTENT, "Budget deleted for category: " + category, null);
+    }
+
+    /**
+     * Spend against every budget for {@code month} (yyyy-MM, UTC), the current month by default.
+     */
+    @GetMapping(
+            value = "/status",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<List<BudgetStatusResponse>>> getStatus(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        return buildResponse(HttpStatus.OK, "Fetched budget status", budgetService.getStatus(month));
+    }
+
+    /**
+     * Threshold crossings in the order they happened. Pass the last seen {@code id} as
+     * {@code after} to fetch only newer ones.
+     */
+    @GetMapping(
+            value = "/events",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<List<BudgetEventResponse>>> getEvents(
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return buildResponse(HttpStatus.OK, "Fetched budget events", budgetService.getEvents(after, limit));
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> buildResponse(HttpStatus status, String message, T data) {
+        ApiResponse<T> response = ApiResponse.<T>builder()
+                .statusCode(status.value())
+                .message(message)
+                .timestamp(OffsetDateTime.now())
+                .data(data)
+                .build();
+        log.info("{}. User ID = {}", message, getCurrentUserJwtPrincipal().getUserId());
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -1,20 +1,34 @@
 package com.adcoder.expensetracker.controller;
 
+import com.adcoder.expensetracker.common.ApiMediaTypes;
 import com.adcoder.expensetracker.common.ApiResponse;
+import com.adcoder.expensetracker.common.CursorPage;
+import com.adcoder.expensetracker.common.ExportFormat;
+import com.adcoder.expensetracker.dto.BatchCreateResponse;
+import com.adcoder.expensetracker.dto.BulkDeleteResponse;
+import com.adcoder.expensetracker.dto.ExpenseChangesResponse;
 import com.adcoder.expensetracker.dto.ExpenseRequest;
 import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.dto.ExpenseSearchResult;
 import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.adcoder.expensetracker.service.ExpenseETagService;
 import com.adcoder.expensetracker.service.ExpenseService;
+import com.adcoder.expensetracker.service.ExpenseStreamService;
+import com.adcoder.expensetracker.service.impl.ExpenseExportLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -22,7 +36,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/expenses")
@@ -30,41 +50,189 @@ import java.time.OffsetDateTime;
 @Slf4j
 public class ExpenseController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ExpenseService expenseService;
+    private final ExpenseETagService expenseETagService;
+    private final ExpenseStreamService expenseStreamService;
+    private final ExpenseExportLimiter expenseExportLimiter;
 
     private JwtPrincipal getCurrentUserJwtPrincipal() {
         return (JwtPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
 
     @GetMapping(
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
     )
     public ResponseEntity<ApiResponse<Page<ExpenseResponse>>>  getAllExpenses(
             Pageable pageable,
-            @RequestParam(required = false) String filter
+            @RequestParam(required = false) String filter,
+            WebRequest request
     ) {
-        return buildResponse(
-                HttpStatus.OK,
+        return buildConditionalResponse(
+                request,
+                expenseETagService.getCollectionETag(),
                 "Fetched all expenses",
-                expenseService.getAllExpensesForUser(pageable, filter)
+                () -> expenseService.getAllExpensesForUser(pageable, filter)
+        );
+    }
+
+    /**
+     * Keyset mode of {@link #getAllExpenses}, selected by the presence of the {@code cursor} parameter.
+     * Pass an empty cursor for the first page and {@code nextCursor} from the response afterwards.
+     * Results are ordered by date and id descending and no total count is computed.
+     */
+    @GetMapping(
+            params = "cursor",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<CursorPage<ExpenseResponse>>> getExpensesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String filter,
+            WebRequest request
+    ) {
+        return buildConditionalResponse(
+                request,
+                expenseETagService.getCollectionETag(),
+                "Fetched expenses by cursor",
+                () -> expenseService.getExpensesForUserByCursor(cursor, size, filter)
+        );
+    }
+
+    /**
+     * Ranked full-text search over title and description. Every word of {@code q} is matched as a
+     * prefix. Pass {@code nextCursor} from the response as {@code cursor} to fetch the next page.
+     */
+    @GetMapping(
+            value = "/search",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<CursorPage<ExpenseSearchResult>>> searchExpenses(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request
+    ) {
+        return buildConditionalResponse(
+                request,
+                expenseETagService.getCollectionETag(),
+                "Searched expenses",
+                () -> expenseService.searchExpenses(q, cursor, size)
         );
     }
 
+    /**
+     * Expenses created, updated or deleted since {@code since}. Call without a token to get a
+     * starting one, then keep passing {@code nextToken}; follow it immediately while {@code hasMore}
+     * is set. A token past tombstone retention gets 410 and the client reloads everything.
+     */
+    @GetMapping(
+            value = "/changes",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<ExpenseChangesResponse>> getChanges(
+            @RequestParam(required = false) String since
+    ) {
+        return buildResponse(HttpStatus.OK, "Fetched expense changes", expenseService.getChanges(since));
+    }
+
+    /**
+     * Server-sent events for the user's expense writes once they commit: {@code created},
+     * {@code updated} and {@code deleted} carry a JSON array of expenses or deleted ids, and
+     * {@code resync} asks the client to catch up through {@link #getChanges}. Clients should also
+     * catch up after every reconnect, since events are not replayed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamExpenses() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Stops nginx from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(expenseStreamService.subscribe());
+    }
+
+    /**
+     * Streams the user's expenses as CSV or NDJSON without materializing them in memory.
+     * The optional {@code filter} is the same RSQL expression accepted by {@link #getAllExpenses}.
+     * At most {@code expense.export.max-concurrent} exports run at once; further ones get 503.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String filter,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        // Reject a bad filter with 400 now; once streaming starts the status is already sent
+        expenseService.validateFilter(filter);
+        Long userId = getCurrentUserJwtPrincipal().getUserId();
+        String fileName = "expenses." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+
+        // Held until the body is written, since the export keeps its connection that long
+        expenseExportLimiter.acquire();
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                    expenseService.exportExpenses(userId, filter, exportFormat, gzipOut);
+                    gzipOut.finish();
+                } else {
+                    expenseService.exportExpenses(userId, filter, exportFormat, out);
+                }
+            } finally {
+                expenseExportLimiter.release();
+            }
+        };
+
+        log.info("Exporting expenses as {}. User ID = {}", fileName, userId);
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
     @GetMapping(
             value = "/{id}",
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
     )
-    public ResponseEntity<ApiResponse<ExpenseResponse>> getExpenseById(@PathVariable Long id) {
-        return buildResponse(
-                HttpStatus.OK,
+    public ResponseEntity<ApiResponse<ExpenseResponse>> getExpenseById(@PathVariable Long id, WebRequest request) {
+        return buildConditionalResponse(
+                request,
+                expenseETagService.getExpenseETag(id),
                 "Fetched expense with ID: " + id,
-                expenseService.getExpenseById(id)
+                () -> expenseService.getExpenseById(id)
         );
     }
 
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
     )
     public ResponseEntity<ApiResponse<ExpenseResponse>> createExpense(@RequestBody ExpenseRequest expenseRequest) {
         return buildResponse(
@@ -74,10 +242,41 @@ public class ExpenseController {
         );
     }
 
+    @PostMapping(
+            value = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<BatchCreateResponse>> createExpenses(
+            @RequestBody List<ExpenseRequest> expenseRequests) {
+        BatchCreateResponse result = expenseService.createExpenses(expenseRequests);
+        HttpStatus status;
+        if (result.getFailed() == 0) {
+            status = HttpStatus.CREATED;
+        } else if (result.getCreated() > 0) {
+            status = HttpStatus.MULTI_STATUS;
+        } else {
+            status = HttpStatus.BAD_REQUEST;
+        }
+        return buildResponse(
+                status,
+                "Batch processed: " + result.getCreated() + " created, " + result.getFailed() + " failed",
+                result
+        );
+    }
+
     @PutMapping(
             value = "/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
     )
     public ResponseEntity<ApiResponse<ExpenseResponse>> updateExpense(
             @PathVariable Long id,
@@ -89,6 +288,29 @@ public class ExpenseController {
         );
     }
 
+    /**
+     * Updates only the fields present in the body. Send {@code version} to fail with 409
+     * instead of overwriting a concurrent change.
+     */
+    @PatchMapping(
+            value = "/{id}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<ExpenseResponse>> patchExpense(
+            @PathVariable Long id,
+            @RequestBody ExpenseRequest expenseRequest) {
+        return buildResponse(
+                HttpStatus.OK,
+                "Expense patched successfully for ID: " + id,
+                expenseService.patchExpense(id, expenseRequest)
+        );
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteExpense(@PathVariable Long id) {
         expenseService.deleteExpense(id);
@@ -98,6 +320,41 @@ public class ExpenseController {
                 null);
     }
 
+    /**
+     * Deletes every expense matching the RSQL {@code filter} and returns how many were removed.
+     * Rows go in chunks, each in its own transaction.
+     */
+    @DeleteMapping(params = "filter")
+    public ResponseEntity<ApiResponse<BulkDeleteResponse>> deleteExpenses(@RequestParam String filter) {
+        long deleted = expenseService.deleteExpenses(filter);
+        return buildResponse(
+                HttpStatus.OK,
+                "Deleted " + deleted + " expenses matching filter",
+                BulkDeleteResponse.builder().deleted(deleted).build());
+    }
+
+    /**
+     * Answers 304 from the ETag alone when it matches {@code If-None-Match}; otherwise loads
+     * the data and returns it with the ETag. Responses are private and must be revalidated.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> buildConditionalResponse(
+            WebRequest request, String eTag, String message, Supplier<T> data) {
+        if (request.checkNotModified(eTag)) {
+            log.info("Not modified: {}. User ID = {}", message, getCurrentUserJwtPrincipal().getUserId());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        ResponseEntity<ApiResponse<T>> response = buildResponse(HttpStatus.OK, message, data.get());
+        return ResponseEntity.status(response.getStatusCode())
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response.getBody());
+    }
+
     private <T> ResponseEntity<ApiResponse<T>> buildResponse(HttpStatus status, String message, T data) {
         ApiResponse<T> response = ApiResponse.<T>builder()
                 .statusCode(status.value())
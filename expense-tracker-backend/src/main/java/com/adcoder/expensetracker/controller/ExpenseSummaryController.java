@@ -0,0 +1,149 @@
+package com.adcoder.expensetracker.controller;
+
+import com.adcoder.expensetracker.common.ApiMediaTypes;
+import com.adcoder.expensetracker.common.ApiResponse;
+import com.adcoder.expensetracker.dto.ExpenseSummaryResponse;
+import com.adcoder.expensetracker.dto.PeriodSummaryResponse;
+import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.adcoder.expensetracker.service.ExpenseETagService;
+import com.adcoder.expensetracker.service.ExpenseSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/expenses/summary")
+@RequiredArgsConstructor
+@Slf4j
+public class ExpenseSummaryController {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final ExpenseSummaryService expenseSummaryService;
+    private final ExpenseETagService expenseETagService;
+
+    private JwtPrincipal getCurrentUserJwtPrincipal() {
+        return (JwtPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    @GetMapping(
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<ExpenseSummaryResponse>> getSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest request
+    ) {
+        return buildConditionalResponse(
+                request,
+                expenseETagService.getCollectionETag(defaultRangeQualifier(from, to)),
+                "Fetched expense summary",
+                () -> expenseSummaryService.getSummary(from, to)
+        );
+    }
+
+    @GetMapping(
+            value = "/daily",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<List<PeriodSummaryResponse>>> getDailyTotals(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String category,
+            WebRequest request
+    ) {
+        return buildConditionalResponse(
+                request,
+                expenseETagService.getCollectionETag(defaultRangeQualifier(from, to)),
+                "Fetched daily expense totals",
+                () -> expenseSummaryService.getDailyTotals(from, to, category)
+        );
+    }
+
+    @GetMapping(
+            value = "/monthly",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    ApiMediaTypes.APPLICATION_CBOR_VALUE,
+                    ApiMediaTypes.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<ApiResponse<List<PeriodSummaryResponse>>> getMonthlyTotals(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String category,
+            WebRequest request
+    ) {
+        return buildConditionalResponse(
+                request,
+                expenseETagService.getCollectionETag(defaultRangeQualifier(from, to)),
+                "Fetched monthly expense totals",
+                () -> expenseSummaryService.getMonthlyTotals(from, to, category)
+        );
+    }
+
+    /**
+     * The default range ends today, so responses using it change at midnight UTC even when
+     * nothing was written.
+     */
+    private String defaultRangeQualifier(LocalDate from, LocalDate to) {
+        return from == null || to == null ? LocalDate.now(ZoneOffset.UTC).toString() : null;
+    }
+
+    /**
+     * Answers 304 from the ETag alone when it matches {@code If-None-Match}; otherwise loads
+     * the data and returns it with the ETag. Responses are private and must be revalidated.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> buildConditionalResponse(
+            WebRequest request, String eTag, String message, Supplier<T> data) {
+        if (request.checkNotModified(eTag)) {
+            log.info("Not modified: {}. User ID = {}", message, getCurrentUserJwtPrincipal().getUserId());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        ResponseEntity<ApiResponse<T>> response = buildResponse(HttpStatus.OK, message, data.get());
+        return ResponseEntity.status(response.getStatusCode())
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response.getBody());
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> buildResponse(HttpStatus status, String message, T data) {
+        ApiResponse<T> response = ApiResponse.<T>builder()
+                .statusCode(status.value())
+                .message(message)
+                .timestamp(OffsetDateTime.now())
+                .data(data)
+                .build();
+        log.info("{}. User ID = {}", message, getCurrentUserJwtPrincipal().getUserId());
+        return ResponseEntity.status(status).body(response);
+    }
+}
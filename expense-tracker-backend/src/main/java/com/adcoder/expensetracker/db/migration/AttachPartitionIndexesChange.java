@@ -0,0 +1,145 @@
+package com.adcoder.expensetracker.db.migration;
+
+import liquibase.change.custom.CustomSqlChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import liquibase.statement.SqlStatement;
+import liquibase.statement.core.RawParameterizedSqlStatement;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Completes a partitioned index created with {@code CREATE INDEX ... ON ONLY <table>}: builds the
+ * matching index on every partition with {@code CREATE INDEX CONCURRENTLY} and attaches it, after
+ * which Postgres marks the parent index valid.
+ * <p>
+ * A plain {@code CREATE INDEX} on the partitioned table would lock out writes to every partition
+ * for the whole build. Here writes only wait for the short catalog changes. Partitions created
+ * after the parent index already get their own copy, so only existing partitions still missing
+ * one are handled, which also makes a rerun after a failed build pick up where it stopped.
+ * <p>
+ * Must run in a changeset with {@code runInTransaction="false"}:
+ * <pre>{@code
+ * <customChange class="com.adcoder.expensetracker.db.migration.AttachPartitionIndexesChange">
+ *     <param name="tableName" value="expense"/>
+ *     <param name="indexName" value="idx_expense_user_search"/>
+ * </customChange>
+ * }</pre>
+ */
+@Getter
+@Setter
+public class AttachPartitionIndexesChange implements CustomSqlChange {
+
+    private static final String PARTITIONS_WITHOUT_INDEX_SQL = """
+            SELECT c.relname
+            FROM pg_inherits p
+            JOIN pg_class c ON c.oid = p.inhrelid
+            WHERE p.inhparent = CAST(? AS regclass)
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM pg_inherits ip
+                  JOIN pg_index i ON i.indexrelid = ip.inhrelid
+                  WHERE ip.inhparent = CAST(? AS regclass)
+                    AND i.indrelid = c.oid
+              )
+            ORDER BY c.relname
+            """;
+
+    private String tableName;
+    private String indexName;
+
+    @Override
+    public SqlStatement[] generateStatements(Database database) throws CustomChangeException {
+        if (!(database.getConnection() instanceof JdbcConnection jdbcConnection)) {
+            throw new CustomChangeException("Partition indexes can only be built against a live database");
+        }
+        Connection connection = jdbcConnection.getUnderlyingConnection();
+
+        try {
+            // e.g. "USING gin (user_id, search_vector)"
+            String method = indexMethod(connection);
+            List<SqlStatement> statements = new ArrayList<>();
+            for (String partition : partitionsWithoutIndex(connection)) {
+                // expense_p2026_01 -> idx_expense_user_search_p2026_01
+                String partitionIndex = indexName + (partition.startsWith(tableName + "_")
+                        ? partition.substring(tableName.length())
+                        : "_" + partition);
+                // Leftover of an earlier failed concurrent build; never attached, so never in use
+                statements.add(new RawParameterizedSqlStatement(
+                        "DROP INDEX CONCURRENTLY IF EXISTS " + partitionIndex));
+                statements.add(new RawParameterizedSqlStatement(
+                        "CREATE INDEX CONCURRENTLY " + partitionIndex + " ON " + partition + " " + method));
+                statements.add(new RawParameterizedSqlStatement(
+                        "ALTER INDEX " + indexName + " ATTACH PARTITION " + partitionIndex));
+            }
+            return statements.toArray(SqlStatement[]::new);
+        } catch (SQLException ex) {
+            throw new CustomChangeException("Failed to list partitions of " + tableName, ex);
+        }
+    }
+
+    // ✅ Helper: the part of the parent index definition starting at USING
+    private String indexMethod(Connection connection) throws SQLException, CustomChangeException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT pg_get_indexdef(CAST(? AS regclass))")) {
+            statement.setString(1, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                String definition = resultSet.getString(1);
+                int using = definition.indexOf(" USING ");
+                if (using < 0) {
+                    throw new CustomChangeException("Unexpected definition of " + indexName + ": " + definition);
+                }
+                return definition.substring(using + 1);
+            }
+        }
+    }
+
+    private List<String> partitionsWithoutIndex(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(PARTITIONS_WITHOUT_INDEX_SQL)) {
+            statement.setString(1, tableName);
+            statement.setString(2, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    partitions.add(resultSet.getString(1));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Built and attached the partitions of index " + indexName;
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+        // Nothing to prepare
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        // No files are read
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        ValidationErrors errors = new ValidationErrors();
+        errors.checkRequiredField("tableName", tableName);
+        errors.checkRequiredField("indexName", indexName);
+        return errors;
+    }
+}
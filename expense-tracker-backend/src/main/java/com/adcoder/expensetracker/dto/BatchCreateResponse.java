@@ -0,0 +1,19 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateResponse {
+    private int received;
+    private int created;
+    private int failed;
+    private List<BatchItemResult> results;
+}
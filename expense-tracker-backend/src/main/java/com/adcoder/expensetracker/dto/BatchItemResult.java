@@ -0,0 +1,17 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+    private int index;
+    private boolean success;
+    private ExpenseResponse expense;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.adcoder.expensetracker.dto;
+
+import com.adcoder.expensetracker.model.BudgetEventDirection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetEventResponse {
+    private Long id;
+    private String category;
+    private LocalDate periodStart;
+    private Integer thresholdPercent;
+    private BudgetEventDirection direction;
+    private Long totalAmount;
+    private Long monthlyLimit;
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRequest {
+    private Long monthlyLimit;
+    /**
+     * Optional early-warning threshold in percent of the limit, 1 to 99. Crossing 100% is
+     * always recorded.
+     */
+    private Integer alertPercent;
+}
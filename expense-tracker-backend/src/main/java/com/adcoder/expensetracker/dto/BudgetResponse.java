@@ -0,0 +1,19 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetResponse {
+    private String category;
+    private Long monthlyLimit;
+    private Integer alertPercent;
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,7 @@
+package com.adcoder.expensetracker.dto;
+
+public enum BudgetState {
+    OK,
+    WARNING,
+    EXCEEDED
+}
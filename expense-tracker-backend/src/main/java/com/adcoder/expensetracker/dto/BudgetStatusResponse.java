@@ -0,0 +1,24 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetStatusResponse {
+    private String category;
+    private LocalDate periodStart;
+    private Long monthlyLimit;
+    private Integer alertPercent;
+    private Long spent;
+    private Long remaining;
+    private Long expenseCount;
+    private Integer percentUsed;
+    private BudgetState state;
+}
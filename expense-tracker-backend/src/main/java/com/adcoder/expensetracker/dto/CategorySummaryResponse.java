@@ -0,0 +1,16 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySummaryResponse {
+    private String category;
+    private Long totalAmount;
+    private Long expenseCount;
+}
@@ -0,0 +1,23 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Expenses created or updated and ids of expenses deleted since the request's token.
+ * Applying both is idempotent, so a change delivered twice is harmless.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseChangesResponse {
+    private List<ExpenseResponse> upserts;
+    private List<Long> deletes;
+    private boolean hasMore;
+    private String nextToken;
+}
@@ -16,4 +16,9 @@ public class ExpenseRequest {
     private Long amount;
     private OffsetDateTime date;
     private String description;
+    /**
+     * Optional on updates. When set, the update only applies if the expense is still at this
+     * version, otherwise it fails with 409.
+     */
+    private Long version;
 }
@@ -18,4 +18,5 @@ public class ExpenseResponse {
     private Long amount;
     private OffsetDateTime date;
     private String description;
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A matching expense with its relevance and highlighted text. The highlight fields are HTML:
+ * the expense text is escaped and matched terms are wrapped in {@code <mark>}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseSearchResult {
+    private ExpenseResponse expense;
+    private float rank;
+    private String titleHighlight;
+    private String descriptionHighlight;
+}
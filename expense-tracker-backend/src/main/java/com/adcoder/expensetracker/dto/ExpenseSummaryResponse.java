@@ -0,0 +1,21 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseSummaryResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private Long totalAmount;
+    private Long expenseCount;
+    private List<CategorySummaryResponse> categories;
+}
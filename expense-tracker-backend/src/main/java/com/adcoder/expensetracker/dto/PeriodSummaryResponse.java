@@ -0,0 +1,18 @@
+package com.adcoder.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodSummaryResponse {
+    private LocalDate periodStart;
+    private Long totalAmount;
+    private Long expenseCount;
+}
@@ -0,0 +1,17 @@
+package com.adcoder.expensetracker.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExpenseChangeType {
+    CREATED("created"),
+    UPDATED("updated"),
+    DELETED("deleted");
+
+    /**
+     * Name of the server-sent event carrying this change.
+     */
+    private final String eventName;
+}
@@ -0,0 +1,25 @@
+package com.adcoder.expensetracker.event;
+
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+
+import java.util.List;
+
+/**
+ * Published by the expense service for every write. Listeners bound to the transaction only see
+ * it once the write has committed. {@code data} holds the affected {@link ExpenseResponse}s for
+ * creates and updates, and the deleted expense ids for deletes.
+ */
+public record ExpenseChangedEvent(Long userId, ExpenseChangeType type, List<?> data) {
+
+    public static ExpenseChangedEvent created(Long userId, List<ExpenseResponse> expenses) {
+        return new ExpenseChangedEvent(userId, ExpenseChangeType.CREATED, expenses);
+    }
+
+    public static ExpenseChangedEvent updated(Long userId, ExpenseResponse expense) {
+        return new ExpenseChangedEvent(userId, ExpenseChangeType.UPDATED, List.of(expense));
+    }
+
+    public static ExpenseChangedEvent deleted(Long userId, List<Long> ids) {
+        return new ExpenseChangedEvent(userId, ExpenseChangeType.DELETED, ids);
+    }
+}
@@ -0,0 +1,8 @@
+package com.adcoder.expensetracker.event;
+
+/**
+ * Published after an eviction received from another instance has been applied locally.
+ * A null {@code key} means the whole cache was cleared, and a null {@code cacheName} means every cache.
+ */
+public record RemoteCacheEvictionEvent(String cacheName, Long key) {
+}
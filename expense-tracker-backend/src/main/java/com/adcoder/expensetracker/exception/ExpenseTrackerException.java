@@ -6,9 +6,18 @@ import org.springframework.http.HttpStatus;
 @Getter
 public class ExpenseTrackerException extends RuntimeException{
     private final HttpStatus status;
+    /**
+     * Sent as Retry-After when set, for errors the client should retry later.
+     */
+    private final Long retryAfterSeconds;
 
     public ExpenseTrackerException(String message, HttpStatus status) {
+        this(message, status, null);
+    }
+
+    public ExpenseTrackerException(String message, HttpStatus status, Long retryAfterSeconds) {
         super(message);
         this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
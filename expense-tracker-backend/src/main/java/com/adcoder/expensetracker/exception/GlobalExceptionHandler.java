@@ -2,6 +2,7 @@ package com.adcoder.expensetracker.exception;
 
 import com.adcoder.expensetracker.common.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -12,9 +13,12 @@ import java.time.OffsetDateTime;
 public class GlobalExceptionHandler {
     @ExceptionHandler(ExpenseTrackerException.class)
     public ResponseEntity<ApiResponse<Void>> handleExpenseTrackerException(ExpenseTrackerException ex) {
-        log.error(ex.getMessage(), ex);
-        return ResponseEntity
-                .status(ex.getStatus())
+        logException(ex);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getStatus());
+        if (ex.getRetryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        }
+        return response
                 .body(
                         ApiResponse.<Void>builder()
                                 .statusCode(ex.getStatus().value())
@@ -23,4 +27,14 @@ public class GlobalExceptionHandler {
                                 .build()
                 );
     }
+
+    // Client errors and load shedding (429/503, already counted in metrics) are expected and can
+    // come in floods, so only unexpected server errors are logged with a stack trace
+    private static void logException(ExpenseTrackerException ex) {
+        if (ex.getStatus().is5xxServerError() && ex.getRetryAfterSeconds() == null) {
+            log.error(ex.getMessage(), ex);
+        } else {
+            log.debug("Request failed with {}: {}", ex.getStatus().value(), ex.getMessage());
+        }
+    }
 }
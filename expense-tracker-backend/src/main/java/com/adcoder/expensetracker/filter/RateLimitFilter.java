@@ -0,0 +1,240 @@
+package com.adcoder.expensetracker.filter;
+
+import com.adcoder.expensetracker.config.RateLimitProperties;
+import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user request throttling, keyed by the signed-in user's id, or by client IP on routes
+ * that run without a token such as login and registration. Runs after {@code JwtAuthFilter}
+ * so the principal is known.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} updated with compare-and-set (the generic cell
+ * rate algorithm, equivalent to a token bucket of {@code capacity} refilled at
+ * {@code capacity / period}), so concurrent requests of one user never take a lock. Buckets live
+ * in a bounded Caffeine map and expire once idle for a full period, when they would be full again.
+ * <p>
+ * The client IP comes from {@code X-Forwarded-For} only when the peer is one of the configured
+ * trusted proxies. The header is read right to left, skipping further trusted hops, so a client
+ * cannot pick its own address by sending the header itself.
+ * <p>
+ * Throttled requests get 429 with a Retry-After hint.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_ROUTE = "default";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    // Only literals are looked at, so a hop never triggers a DNS lookup
+    private static final Pattern IPV4 = Pattern.compile(
+            "((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)");
+    private static final Pattern IPV6 = Pattern.compile("[0-9A-Fa-f:.]*:[0-9A-Fa-f:.]*");
+
+    private final List<Route> routes;
+    private final Route defaultRoute;
+    private final Cache<String, Bucket> buckets;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+                .map(String::strip)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        this.defaultRoute = new Route(DEFAULT_ROUTE, null, Set.of(), properties.getDefaultLimit(), meterRegistry);
+        this.routes = new ArrayList<>();
+        Duration longestPeriod = properties.getDefaultLimit().getPeriod();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            Set<String> methods = route.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet());
+            routes.add(new Route(route.getName(), PathPatternParser.defaultInstance.parse(route.getPattern()),
+                    methods, route, meterRegistry));
+            if (route.getPeriod().compareTo(longestPeriod) > 0) {
+                longestPeriod = route.getPeriod();
+            }
+        }
+
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(longestPeriod)
+                .build();
+        Gauge.builder("http.server.rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("Rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Route route = resolveRoute(request);
+        String key = route.name + "|" + subject(request);
+        long now = System.nanoTime();
+        long waitNanos = buckets.get(key, ignored -> new Bucket(now))
+                .tryAcquire(now, route.emissionIntervalNanos, route.burstToleranceNanos);
+
+        if (waitNanos > 0) {
+            route.throttled.increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Scrapes and probes come from a handful of addresses and must never be throttled
+        return request.getServletPath().startsWith("/actuator/");
+    }
+
+    private Route resolveRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getServletPath());
+        for (Route route : routes) {
+            if ((route.methods.isEmpty() || route.methods.contains(request.getMethod()))
+                    && route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return defaultRoute;
+    }
+
+    // 🔍 Helper: The user id when a valid token was presented, the client address otherwise
+    private String subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return "u" + principal.getUserId();
+        }
+        return "ip" + clientAddress(request);
+    }
+
+    // 🔍 Helper: The first hop not added by a trusted proxy, walking X-Forwarded-For from the right
+    String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!isTrustedProxy(address)) {
+            return address;
+        }
+
+        List<String> hops = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders(FORWARDED_FOR))) {
+            for (String hop : header.split(",")) {
+                hops.add(hop.strip());
+            }
+        }
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            String hop = hops.get(i);
+            if (!isIpLiteral(hop)) {
+                // Not an address we can key on; the last proxy stands in for the client
+                break;
+            }
+            address = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (trustedProxies.isEmpty() || !isIpLiteral(address)) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            // Looked like an IPv6 literal but is not one
+        }
+        return false;
+    }
+
+    private static boolean isIpLiteral(String address) {
+        return address != null && (IPV4.matcher(address).matches() || IPV6.matcher(address).matches());
+    }
+
+    private static final class Route {
+        private final String name;
+        private final PathPattern pattern;
+        private final Set<String> methods;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final Counter throttled;
+
+        private Route(String name, PathPattern pattern, Set<String> methods, RateLimitProperties.Limit limit,
+                      MeterRegistry meterRegistry) {
+            if (limit.getCapacity() < 1) {
+                throw new IllegalArgumentException("Rate limit capacity must be at least 1 for route " + name);
+            }
+            this.name = name;
+            this.pattern = pattern;
+            this.methods = methods;
+            this.emissionIntervalNanos = limit.getPeriod().toNanos() / limit.getCapacity();
+            this.burstToleranceNanos = emissionIntervalNanos * limit.getCapacity();
+            this.throttled = Counter.builder("http.server.requests.throttled")
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .tag("route", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Holds the theoretical arrival time: the instant at which the bucket would be full again.
+     */
+    static final class Bucket {
+        private final AtomicLong theoreticalArrival;
+
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        // Returns 0 when a token was taken, otherwise the nanoseconds until one is available
+        long tryAcquire(long now, long emissionInterval, long burstTolerance) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = (current - now > 0 ? current : now) + emissionInterval;
+                long wait = next - now - burstTolerance;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
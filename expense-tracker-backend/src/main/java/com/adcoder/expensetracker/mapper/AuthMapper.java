@@ -4,6 +4,7 @@ import com.adcoder.expensetracker.dto.AuthResponse;
 import com.adcoder.expensetracker.dto.RegisterRequest;
 import com.adcoder.expensetracker.dto.RegisterResponse;
 import com.adcoder.expensetracker.model.AuthUser;
+import com.adcoder.expensetracker.security.UserProfile;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -25,6 +26,18 @@ public class AuthMapper {
                 .build();
     }
 
+    public static RegisterResponse toRegisterResponseDto(UserProfile profile) {
+        return RegisterResponse.builder()
+                .id(profile.id())
+                .email(profile.email())
+                .username(profile.username())
+                .build();
+    }
+
+    public static UserProfile toUserProfile(AuthUser authUser) {
+        return new UserProfile(authUser.getId(), authUser.getUsername(), authUser.getEmail());
+    }
+
     public static AuthResponse toAuthResponseDto(String token) {
         return AuthResponse.builder()
                 .accessToken(token)
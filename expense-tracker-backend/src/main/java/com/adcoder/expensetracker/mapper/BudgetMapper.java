@@ -0,0 +1,34 @@
+package com.adcoder.expensetracker.mapper;
+
+import com.adcoder.expensetracker.dto.BudgetEventResponse;
+import com.adcoder.expensetracker.dto.BudgetResponse;
+import com.adcoder.expensetracker.model.Budget;
+import com.adcoder.expensetracker.model.BudgetEvent;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BudgetMapper {
+
+    public static BudgetResponse toBudgetResponseDto(Budget budget) {
+        return BudgetResponse.builder()
+                .category(budget.getId().getCategory())
+                .monthlyLimit(budget.getMonthlyLimit())
+                .alertPercent(budget.getAlertPercent())
+                .updatedAt(budget.getUpdatedAt())
+                .build();
+    }
+
+    public static BudgetEventResponse toBudgetEventResponseDto(BudgetEvent event) {
+        return BudgetEventResponse.builder()
+                .id(event.getId())
+                .category(event.getCategory())
+                .periodStart(event.getPeriodStart())
+                .thresholdPercent(event.getThresholdPercent())
+                .direction(event.getDirection())
+                .totalAmount(event.getTotalAmount())
+                .monthlyLimit(event.getMonthlyLimit())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
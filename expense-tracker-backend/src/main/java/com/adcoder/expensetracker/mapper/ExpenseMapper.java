@@ -29,6 +29,7 @@ public class ExpenseMapper {
                 .amount(expense.getAmount())
                 .description(expense.getDescription())
                 .date(expense.getDate())
+                .version(expense.getVersion())
                 .build();
     }
 }
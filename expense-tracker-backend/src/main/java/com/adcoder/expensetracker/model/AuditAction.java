@@ -0,0 +1,7 @@
+package com.adcoder.expensetracker.model;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
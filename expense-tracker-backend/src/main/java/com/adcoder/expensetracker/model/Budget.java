@@ -0,0 +1,30 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Monthly spending limit for one category. Month-to-date spend is the category's MONTH row in
+ * {@code expense_rollup}, and the {@code trg_budget_threshold} trigger records a
+ * {@link BudgetEvent} whenever that total crosses {@code alertPercent} or 100% of the limit.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Budget {
+    @EmbeddedId
+    private BudgetId id;
+
+    private Long monthlyLimit;
+    private Integer alertPercent;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * A month's total for a budgeted category moving across one of its thresholds, written by the
+ * {@code trg_budget_threshold} trigger in the same transaction as the expense write.
+ */
+@Entity
+@Immutable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetEvent {
+    @Id
+    private Long id;
+
+    private Long userId;
+    private String category;
+    private LocalDate periodStart;
+    private Integer thresholdPercent;
+
+    @Enumerated(EnumType.STRING)
+    private BudgetEventDirection direction;
+
+    private Long totalAmount;
+    private Long monthlyLimit;
+    private OffsetDateTime createdAt;
+}
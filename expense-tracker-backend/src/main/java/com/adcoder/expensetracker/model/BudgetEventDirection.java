@@ -0,0 +1,6 @@
+package com.adcoder.expensetracker.model;
+
+public enum BudgetEventDirection {
+    UP,
+    DOWN
+}
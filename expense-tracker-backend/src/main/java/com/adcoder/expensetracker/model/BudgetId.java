@@ -0,0 +1,19 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetId implements Serializable {
+    private Long userId;
+    private String category;
+}
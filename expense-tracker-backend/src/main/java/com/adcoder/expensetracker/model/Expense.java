@@ -15,7 +15,8 @@ import java.time.OffsetDateTime;
 @AllArgsConstructor
 public class Expense {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
+    @SequenceGenerator(name = "expense_seq", sequenceName = "expense_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,4 +30,7 @@ public class Expense {
     private String description;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,27 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Per user counter bumped by the {@code trg_expense_collection_version_*} triggers whenever
+ * a statement inserts, updates or deletes that user's expenses. Used to build ETags for list
+ * and summary responses without running the underlying query.
+ */
+@Entity
+@Immutable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseCollectionVersion {
+    @Id
+    private Long userId;
+
+    private Long version;
+}
@@ -0,0 +1,28 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Running totals per user, category and period. Rows are maintained by the
+ * {@code trg_expense_rollup} database trigger inside the same transaction as
+ * the expense write, so the application only ever reads them.
+ */
+@Entity
+@Immutable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseRollup {
+    @EmbeddedId
+    private ExpenseRollupId id;
+
+    private Long totalAmount;
+    private Long expenseCount;
+}
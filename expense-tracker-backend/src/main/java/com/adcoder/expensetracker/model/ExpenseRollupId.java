@@ -0,0 +1,27 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseRollupId implements Serializable {
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private RollupPeriod periodType;
+
+    private LocalDate periodStart;
+    private String category;
+}
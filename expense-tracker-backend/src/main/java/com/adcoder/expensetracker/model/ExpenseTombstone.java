@@ -0,0 +1,25 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Marker left behind by a deleted expense so delta-sync clients can drop it. Rows are written
+ * by the {@code trg_expense_tombstone} database trigger and removed by
+ * {@link com.adcoder.expensetracker.service.impl.ExpenseTombstonePruner} once past retention.
+ */
+@Entity
+@Immutable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseTombstone {
+    @EmbeddedId
+    private ExpenseTombstoneId id;
+}
@@ -0,0 +1,21 @@
+package com.adcoder.expensetracker.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseTombstoneId implements Serializable {
+    private Long userId;
+    private OffsetDateTime deletedAt;
+    private Long expenseId;
+}
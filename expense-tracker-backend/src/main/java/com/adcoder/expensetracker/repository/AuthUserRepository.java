@@ -7,7 +7,5 @@ import java.util.Optional;
 
 @Repository
 public interface AuthUserRepository extends JpaRepository<AuthUser, Long> {
-    boolean existsByUsername(String username);
-    boolean existsByEmail(String email);
     Optional<AuthUser> findByUsername(String username);
 }
@@ -0,0 +1,16 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.model.BudgetEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface BudgetEventRepository extends JpaRepository<BudgetEvent, Long> {
+
+    /**
+     * Served by {@code idx_budget_event_user_id}.
+     */
+    List<BudgetEvent> findByUserIdAndIdGreaterThanOrderById(Long userId, Long afterId, Limit limit);
+}
@@ -0,0 +1,41 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.model.Budget;
+import com.adcoder.expensetracker.model.BudgetId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, BudgetId> {
+
+    List<Budget> findByIdUserIdOrderByIdCategory(Long userId);
+
+    /**
+     * Creates or replaces the budget in one statement.
+     */
+    @Query(value = """
+            INSERT INTO budget (user_id, category, monthly_limit, alert_percent, created_at, updated_at)
+            VALUES (:userId, :category, :monthlyLimit, :alertPercent, :now, :now)
+            ON CONFLICT (user_id, category) DO UPDATE SET
+                monthly_limit = EXCLUDED.monthly_limit,
+                alert_percent = EXCLUDED.alert_percent,
+                updated_at = EXCLUDED.updated_at
+            RETURNING *
+            """, nativeQuery = true)
+    Budget upsertReturning(
+            @Param("userId") Long userId,
+            @Param("category") String category,
+            @Param("monthlyLimit") Long monthlyLimit,
+            @Param("alertPercent") Integer alertPercent,
+            @Param("now") OffsetDateTime now
+    );
+
+    @Modifying
+    @Query("delete from Budget b where b.id.userId = :userId and b.id.category = :category")
+    int deleteByUserIdAndCategory(@Param("userId") Long userId, @Param("category") String category);
+}
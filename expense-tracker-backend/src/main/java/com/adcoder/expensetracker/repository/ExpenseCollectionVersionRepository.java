@@ -0,0 +1,15 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.model.ExpenseCollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface ExpenseCollectionVersionRepository extends JpaRepository<ExpenseCollectionVersion, Long> {
+
+    @Query("select v.version from ExpenseCollectionVersion v where v.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+}
@@ -1,13 +1,68 @@
 package com.adcoder.expensetracker.repository;
 
-import com.adcoder.expensetracker.model.AuthUser;
 import com.adcoder.expensetracker.model.Expense;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense> {
-    Optional<Expense> findByAuthUserAndId(AuthUser user, Long id);
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense>,
+        ExpenseRepositoryCustom {
+    Optional<Expense> findByIdAndAuthUserId(Long id, Long userId);
+
+    /**
+     * Deletes the expense and returns the row as it was, or nothing when it does not exist for
+     * this user.
+     * <p>
+     * Not {@code @Modifying}: the rows come back through {@code RETURNING}, so this runs as a query.
+     * It still writes, hence its own read-write transaction instead of the repository's read-only
+     * default, which would also route it to the replica.
+     */
+    @Transactional
+    @Query(value = """
+            DELETE FROM expense
+            WHERE id = :id AND user_id = :userId
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Expense> deleteReturning(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Deletes those of the given expenses that belong to this user and returns them as they were.
+     * Transactional for the same reason as {@link #deleteReturning}.
+     */
+    @Transactional
+    @Query(value = """
+            DELETE FROM expense
+            WHERE id IN (:ids) AND user_id = :userId
+            RETURNING *
+            """, nativeQuery = true)
+    List<Expense> deleteReturningByIdIn(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query("select e.updatedAt from Expense e where e.id = :id and e.authUser.id = :userId")
+    Optional<OffsetDateTime> findUpdatedAtByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Expenses created or updated after the {@code (updatedAt, id)} position, oldest first.
+     * Served by {@code idx_expense_user_updated_at_id}.
+     */
+    @Query("""
+            select e from Expense e
+            where e.authUser.id = :userId
+              and (e.updatedAt > :after or (e.updatedAt = :after and e.id > :afterId))
+            order by e.updatedAt, e.id
+            """)
+    List<Expense> findChangesAfter(
+            @Param("userId") Long userId,
+            @Param("after") OffsetDateTime after,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
 }
@@ -0,0 +1,53 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.common.ExpenseSearchCursor;
+import com.adcoder.expensetracker.dto.ExpenseRequest;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.dto.ExpenseSearchResult;
+import com.adcoder.expensetracker.model.Expense;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ExpenseRepositoryCustom {
+    /**
+     * Delimiters around matched terms in the highlights returned by {@link #search}. Control
+     * characters cannot come from user input, so callers can escape the text and then swap them.
+     */
+    char HIGHLIGHT_START = '\u0002';
+    char HIGHLIGHT_STOP = '\u0003';
+
+    /**
+     * Streams matching rows as DTOs straight from a server-side cursor. No entities are
+     * managed, so memory stays flat regardless of row count. Must be consumed inside a
+     * transaction and closed afterwards.
+     */
+    Stream<ExpenseResponse> streamAll(Specification<Expense> spec, Sort sort, int fetchSize);
+
+    /**
+     * Ids of at most {@code limit} matching rows, without loading the entities.
+     */
+    List<Long> findIds(Specification<Expense> spec, int limit);
+
+    /**
+     * Full-text search over a user's expenses, best match first, resuming after {@code after}
+     * when given. {@code tsQuery} is passed to {@code to_tsquery('english', ...)} and must already
+     * be in tsquery syntax.
+     */
+    List<ExpenseSearchResult> search(Long userId, String tsQuery, ExpenseSearchCursor after, int limit);
+
+    /**
+     * Replaces every editable field in one statement and returns the expense before and after.
+     * Returns nothing when the expense does not exist for this user. If the request carries a
+     * version the expense is no longer at, nothing is changed and the revision is not applied.
+     */
+    Optional<ExpenseRevision> replaceReturning(Long id, Long userId, ExpenseRequest request, OffsetDateTime updatedAt);
+
+    /**
+     * Like {@link #replaceReturning}, but null fields of {@code request} leave the column unchanged.
+     */
+    Optional<ExpenseRevision> patchReturning(Long id, Long userId, ExpenseRequest request, OffsetDateTime updatedAt);
+}
@@ -0,0 +1,223 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.common.ExpenseSearchCursor;
+import com.adcoder.expensetracker.dto.ExpenseRequest;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.dto.ExpenseSearchResult;
+import com.adcoder.expensetracker.model.Expense;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class ExpenseRepositoryCustomImpl implements ExpenseRepositoryCustom {
+
+    // Ranks and pages on the matches first; headlines are only built for the rows returned
+    private static final String SEARCH_SQL = """
+            WITH q AS (
+                SELECT to_tsquery('english', :query) AS query
+            ),
+            page AS (
+                SELECT e.id, e.title, e.category, e.amount, e.date, e.description, e.version,
+                       ts_rank_cd(e.search_vector, q.query) AS rank
+                FROM expense e, q
+                WHERE e.user_id = :userId
+                  AND e.search_vector @@ q.query
+                  AND (CAST(:afterRank AS REAL) IS NULL
+                       OR ts_rank_cd(e.search_vector, q.query) < CAST(:afterRank AS REAL)
+                       OR (ts_rank_cd(e.search_vector, q.query) = CAST(:afterRank AS REAL)
+                           AND e.id < CAST(:afterId AS BIGINT)))
+                ORDER BY rank DESC, e.id DESC
+                LIMIT :limit
+            )
+            SELECT page.*,
+                   ts_headline('english', page.title, q.query, :titleOptions) AS title_highlight,
+                   ts_headline('english', COALESCE(page.description, ''), q.query, :descriptionOptions)
+                       AS description_highlight
+            FROM page, q
+            ORDER BY page.rank DESC, page.id DESC
+            """;
+    // The locked CTE row is the committed state the update starts from, so it doubles as "before".
+    // It is returned even when the version check stops the update, which tells 409 from 404.
+    private static final String UPDATE_RETURNING_SQL = """
+            WITH previous AS (
+                SELECT * FROM expense
+                WHERE id = :id AND user_id = :userId
+                FOR UPDATE
+            ),
+            updated AS (
+                UPDATE expense e SET
+            %s,
+                    updated_at = :updatedAt,
+                    version = e.version + 1
+                FROM previous p
+                WHERE e.id = p.id AND e.date = p.date
+                  AND (CAST(:expectedVersion AS BIGINT) IS NULL OR p.version = :expectedVersion)
+                RETURNING e.id, e.title, e.category, e.amount, e.date, e.description, e.version
+            )
+            SELECT u.id, u.title, u.category, u.amount, u.date, u.description, u.version,
+                   p.id AS previous_id, p.title AS previous_title, p.category AS previous_category,
+                   p.amount AS previous_amount, p.date AS previous_date,
+                   p.description AS previous_description, p.version AS previous_version
+            FROM previous p
+            LEFT JOIN updated u ON u.id = p.id
+            """;
+    private static final String REPLACE_SQL = UPDATE_RETURNING_SQL.formatted("""
+                title = :title,
+                category = :category,
+                amount = :amount,
+                date = :date,
+                description = :description""");
+    private static final String PATCH_SQL = UPDATE_RETURNING_SQL.formatted("""
+                title = COALESCE(CAST(:title AS VARCHAR), e.title),
+                category = COALESCE(CAST(:category AS VARCHAR), e.category),
+                amount = COALESCE(CAST(:amount AS BIGINT), e.amount),
+                date = COALESCE(CAST(:date AS TIMESTAMP WITH TIME ZONE), e.date),
+                description = COALESCE(CAST(:description AS VARCHAR), e.description)""");
+
+    private static final String SELECTORS = "StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_STOP;
+    private static final String TITLE_OPTIONS = SELECTORS + ", HighlightAll=true";
+    private static final String DESCRIPTION_OPTIONS = SELECTORS
+            + ", MaxWords=20, MinWords=8, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<ExpenseResponse> streamAll(Specification<Expense> spec, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseResponse> query = cb.createQuery(ExpenseResponse.class);
+        Root<Expense> root = query.from(Expense.class);
+
+        query.select(cb.construct(
+                ExpenseResponse.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("category"),
+                root.get("amount"),
+                root.get("date"),
+                root.get("description"),
+                root.get("version")
+        ));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public List<ExpenseSearchResult> search(Long userId, String tsQuery, ExpenseSearchCursor after, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = entityManager.createNativeQuery(SEARCH_SQL, Tuple.class)
+                .setParameter("query", tsQuery)
+                .setParameter("userId", userId)
+                .setParameter("afterRank", after != null ? after.rank() : null)
+                .setParameter("afterId", after != null ? after.id() : null)
+                .setParameter("limit", limit)
+                .setParameter("titleOptions", TITLE_OPTIONS)
+                .setParameter("descriptionOptions", DESCRIPTION_OPTIONS)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> ExpenseSearchResult.builder()
+                        .expense(toExpenseResponse(row, ""))
+                        .rank(row.get("rank", Number.class).floatValue())
+                        .titleHighlight(row.get("title_highlight", String.class))
+                        .descriptionHighlight(row.get("description_highlight", String.class))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public Optional<ExpenseRevision> replaceReturning(
+            Long id, Long userId, ExpenseRequest request, OffsetDateTime updatedAt) {
+        return updateReturning(REPLACE_SQL, id, userId, request, updatedAt);
+    }
+
+    @Override
+    public Optional<ExpenseRevision> patchReturning(
+            Long id, Long userId, ExpenseRequest request, OffsetDateTime updatedAt) {
+        return updateReturning(PATCH_SQL, id, userId, request, updatedAt);
+    }
+
+    private Optional<ExpenseRevision> updateReturning(
+            String sql, Long id, Long userId, ExpenseRequest request, OffsetDateTime updatedAt) {
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = entityManager.createNativeQuery(sql, Tuple.class)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .setParameter("expectedVersion", request.getVersion())
+                .setParameter("title", request.getTitle())
+                .setParameter("category", request.getCategory())
+                .setParameter("amount", request.getAmount())
+                .setParameter("date", request.getDate())
+                .setParameter("description", request.getDescription())
+                .setParameter("updatedAt", updatedAt)
+                .getResultList();
+
+        return rows.stream()
+                .findFirst()
+                .map(row -> new ExpenseRevision(
+                        toExpenseResponse(row, "previous_"),
+                        row.get("id") == null ? null : toExpenseResponse(row, "")));
+    }
+
+    private static ExpenseResponse toExpenseResponse(Tuple row, String prefix) {
+        return ExpenseResponse.builder()
+                .id(row.get(prefix + "id", Number.class).longValue())
+                .title(row.get(prefix + "title", String.class))
+                .category(row.get(prefix + "category", String.class))
+                .amount(row.get(prefix + "amount", Number.class).longValue())
+                .date(toOffsetDateTime(row.get(prefix + "date")))
+                .description(row.get(prefix + "description", String.class))
+                .version(row.get(prefix + "version", Number.class).longValue())
+                .build();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Object value) {
+        return switch (value) {
+            case OffsetDateTime offsetDateTime -> offsetDateTime;
+            case Instant instant -> instant.atOffset(ZoneOffset.UTC);
+            case Timestamp timestamp -> timestamp.toInstant().atOffset(ZoneOffset.UTC);
+            default -> throw new IllegalStateException("Unexpected date value: " + value);
+        };
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Expense> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Expense> root = query.from(Expense.class);
+
+        query.select(root.get("id"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+
+/**
+ * An expense as it was before and after one update statement. {@code after} is null when the
+ * update was skipped because the expense is no longer at the expected version; {@code before}
+ * is then its current state.
+ */
+public record ExpenseRevision(ExpenseResponse before, ExpenseResponse after) {
+
+    public boolean isApplied() {
+        return after != null;
+    }
+}
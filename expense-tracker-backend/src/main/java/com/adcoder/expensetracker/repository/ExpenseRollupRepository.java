@@ -0,0 +1,67 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.dto.CategorySummaryResponse;
+import com.adcoder.expensetracker.dto.PeriodSummaryResponse;
+import com.adcoder.expensetracker.model.ExpenseRollup;
+import com.adcoder.expensetracker.model.ExpenseRollupId;
+import com.adcoder.expensetracker.model.RollupPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ExpenseRollupRepository extends JpaRepository<ExpenseRollup, ExpenseRollupId> {
+
+    /**
+     * Category totals over {@code [from, toExclusive)}. Whole months inside the range are read from
+     * MONTH rows and only the partial months at either edge from DAY rows.
+     */
+    @Query("""
+            select new com.adcoder.expensetracker.dto.CategorySummaryResponse(
+                r.id.category, sum(r.totalAmount), sum(r.expenseCount))
+            from ExpenseRollup r
+            where r.id.userId = :userId
+              and ((r.id.periodType = com.adcoder.expensetracker.model.RollupPeriod.DAY
+                        and r.id.periodStart >= :from and r.id.periodStart < :headEnd)
+                or (r.id.periodType = com.adcoder.expensetracker.model.RollupPeriod.MONTH
+                        and r.id.periodStart >= :headEnd and r.id.periodStart < :tailStart)
+                or (r.id.periodType = com.adcoder.expensetracker.model.RollupPeriod.DAY
+                        and r.id.periodStart >= :tailStart and r.id.periodStart < :toExclusive))
+            group by r.id.category
+            having sum(r.expenseCount) > 0
+            order by sum(r.totalAmount) desc
+            """)
+    List<CategorySummaryResponse> sumByCategory(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("headEnd") LocalDate headEnd,
+            @Param("tailStart") LocalDate tailStart,
+            @Param("toExclusive") LocalDate toExclusive
+    );
+
+    @Query("""
+            select new com.adcoder.expensetracker.dto.PeriodSummaryResponse(
+                r.id.periodStart, sum(r.totalAmount), sum(r.expenseCount))
+            from ExpenseRollup r
+            where r.id.userId = :userId
+              and r.id.periodType = :periodType
+              and r.id.periodStart >= :from and r.id.periodStart < :toExclusive
+              and (:category is null or r.id.category = :category)
+            group by r.id.periodStart
+            having sum(r.expenseCount) > 0
+            order by r.id.periodStart
+            """)
+    List<PeriodSummaryResponse> sumByPeriod(
+            @Param("userId") Long userId,
+            @Param("periodType") RollupPeriod periodType,
+            @Param("from") LocalDate from,
+            @Param("toExclusive") LocalDate toExclusive,
+            @Param("category") String category
+    );
+
+    List<ExpenseRollup> findByIdUserIdAndIdPeriodTypeAndIdPeriodStart(
+            Long userId, RollupPeriod periodType, LocalDate periodStart);
+}
@@ -0,0 +1,31 @@
+package com.adcoder.expensetracker.repository;
+
+import com.adcoder.expensetracker.model.ExpenseTombstone;
+import com.adcoder.expensetracker.model.ExpenseTombstoneId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface ExpenseTombstoneRepository extends JpaRepository<ExpenseTombstone, ExpenseTombstoneId> {
+
+    /**
+     * Tombstones after the {@code (deletedAt, expenseId)} position, oldest first.
+     */
+    @Query("""
+            select t from ExpenseTombstone t
+            where t.id.userId = :userId
+              and (t.id.deletedAt > :after or (t.id.deletedAt = :after and t.id.expenseId > :afterId))
+            order by t.id.deletedAt, t.id.expenseId
+            """)
+    List<ExpenseTombstone> findChangesAfter(
+            @Param("userId") Long userId,
+            @Param("after") OffsetDateTime after,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+}
@@ -4,10 +4,13 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.http.ResponseCookie;
 
+import java.time.Duration;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CookieUtil {
 
     private static final String COOKIE_NAME = "jwt";
+    public static final String LAST_WRITE_COOKIE_NAME = "last_write";
     private static final int COOKIE_MAX_AGE = 24 * 60 * 60; // 1 day in seconds
 
     /**
@@ -35,5 +38,17 @@ public class CookieUtil {
                 .sameSite("Strict")
                 .build();
     }
-}
 
+    /**
+     * Create cookie that marks a client as having written recently, holding the time of the write.
+     */
+    public static ResponseCookie createLastWriteCookie(long writtenAtMillis, Duration maxAge) {
+        return ResponseCookie.from(LAST_WRITE_COOKIE_NAME, String.valueOf(writtenAtMillis))
+                .httpOnly(true)
+                .secure(false)
+                .path("/")
+                .maxAge(maxAge)
+                .sameSite("Strict")
+                .build();
+    }
+}
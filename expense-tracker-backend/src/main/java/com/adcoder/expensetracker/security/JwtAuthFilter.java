@@ -1,11 +1,13 @@
 package com.adcoder.expensetracker.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.GrantedAuthority;
@@ -17,13 +19,40 @@ import java.io.IOException;
 import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER_BEARER_TOKEN = "Bearer ";
     private static final String COOKIE_NAME = "jwt"; // your cookie name
 
     private final JwtUtil jwtUtil;
+    private final ManagementPortRequestMatcher managementPortRequestMatcher;
+    private final Timer extractionTimer;
+    private final Timer verificationTimer;
+    private final Counter missingTokenRejections;
+    private final Counter invalidTokenRejections;
+
+    public JwtAuthFilter(
+            JwtUtil jwtUtil,
+            ManagementPortRequestMatcher managementPortRequestMatcher,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.managementPortRequestMatcher = managementPortRequestMatcher;
+        this.extractionTimer = Timer.builder("jwt.token.extraction")
+                .description("Time to locate the JWT in the cookie or Authorization header")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.verificationTimer = Timer.builder("jwt.token.verification")
+                .description("Time to verify the JWT and build its principal")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.missingTokenRejections = Counter.builder("jwt.token.rejections")
+                .tag("reason", "missing")
+                .register(meterRegistry);
+        this.invalidTokenRejections = Counter.builder("jwt.token.rejections")
+                .tag("reason", "invalid")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -32,32 +61,27 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String token = extractTokenFromCookie(request);
-
-        // ✅ If not found in cookie, try Authorization header
-        if (token == null) {
-            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-            if (authHeader != null && authHeader.startsWith(AUTHORIZATION_HEADER_BEARER_TOKEN)) {
-                token = authHeader.substring(AUTHORIZATION_HEADER_BEARER_TOKEN.length());
-            }
-        }
+        String token = extractionTimer.record(() -> extractToken(request));
 
         // ✅ If still no token, clear context & return 401
         if (token == null || token.isBlank()) {
+            missingTokenRejections.increment();
             SecurityContextHolder.clearContext();
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
-        // ✅ Validate token
-        if (jwtUtil.validateToken(token)) {
-            JwtPrincipal principal = jwtUtil.createJwtPrincipal(token);
+        // ✅ Validate token (single parse, cached until the token expires)
+        String verifiedToken = token;
+        JwtPrincipal principal = verificationTimer.record(() -> jwtUtil.resolvePrincipal(verifiedToken));
+        if (principal != null) {
             List<GrantedAuthority> authorityList = jwtUtil.getAuthorities();
             JwtAuthenticationToken authenticationToken =
                     new JwtAuthenticationToken(principal, authorityList);
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         } else {
+            invalidTokenRejections.increment();
             SecurityContextHolder.clearContext();
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
@@ -66,6 +90,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 🔍 Helper: Extract JWT from cookie, falling back to the Authorization header
+    private String extractToken(HttpServletRequest request) {
+        String token = extractTokenFromCookie(request);
+
+        // ✅ If not found in cookie, try Authorization header
+        if (token == null) {
+            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader != null && authHeader.startsWith(AUTHORIZATION_HEADER_BEARER_TOKEN)) {
+                token = authHeader.substring(AUTHORIZATION_HEADER_BEARER_TOKEN.length());
+            }
+        }
+        return token;
+    }
+
     // 🔍 Helper: Extract JWT from cookie
     private String extractTokenFromCookie(HttpServletRequest request) {
         if (request.getCookies() == null) return null;
@@ -82,7 +120,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
         return path.startsWith("/auth/login") ||
-                path.startsWith("/auth/register");
+                path.startsWith("/auth/register") ||
+                path.equals("/actuator/health") ||
+                managementPortRequestMatcher.matches(request);
     }
 }
 
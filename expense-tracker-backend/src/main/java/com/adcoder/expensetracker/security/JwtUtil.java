@@ -2,6 +2,9 @@ package com.adcoder.expensetracker.security;
 
 import com.adcoder.expensetracker.exception.ExpenseTrackerException;
 import com.adcoder.expensetracker.model.AuthUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
@@ -17,14 +20,18 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
@@ -33,9 +40,18 @@ import java.util.Map;
 public class JwtUtil {
     private String secret;
     private Long duration;
+    private long cacheSize = 10_000;
 
+    private SecretKey key;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * Applies defaults and builds the key, parser and token cache. Spring calls this once the
+     * properties are bound; code that builds a {@code JwtUtil} by hand calls it after the setters.
+     */
     @PostConstruct
-    private void initializeDefaults() {
+    public void initialize() {
         if (this.secret == null || this.secret.isBlank()) {
             log.info("No JWT secret found in properties. Generating one...");
             generateSecretKey();
@@ -49,6 +65,17 @@ public class JwtUtil {
         } else {
             log.info("Using JWT expiration duration from application.properties");
         }
+
+        // Key derivation and parser construction happen once, not per request
+        this.key = getKey();
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
     }
 
     private SecretKey getKey() {
@@ -80,17 +107,48 @@ public class JwtUtil {
                 .expiration(new Date(timeInMillis + Duration.of(duration, ChronoUnit.MINUTES).toMillis()))
                 .subject(authUser.getUsername())
                 .claims(claims)
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
     }
 
     public Claims extractAllClaims(String token) {
-        JwtParser jwtParser = Jwts.parser()
-                .verifyWith(getKey())
-                .build();
         return jwtParser.parseSignedClaims(token).getPayload();
     }
 
+    /**
+     * Verifies the token and builds its principal in a single parse.
+     * Recently verified tokens are served from a cache keyed by the token's
+     * SHA-256 digest; each entry expires together with the token itself.
+     *
+     * @return the principal, or {@code null} if the token is invalid or expired
+     */
+    public JwtPrincipal resolvePrincipal(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached.principal();
+            }
+            verifiedTokens.invalidate(digest);
+        }
+
+        Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null || !expiration.after(new Date())) {
+            return null;
+        }
+
+        JwtPrincipal principal = toJwtPrincipal(claims);
+        verifiedTokens.put(digest, new VerifiedToken(principal, expiration.getTime()));
+        return principal;
+    }
+
     public boolean validateToken(String token) {
         boolean isValid;
         try {
@@ -103,7 +161,10 @@ public class JwtUtil {
     }
 
     public JwtPrincipal createJwtPrincipal(String token) {
-        Claims claims = extractAllClaims(token);
+        return toJwtPrincipal(extractAllClaims(token));
+    }
+
+    private JwtPrincipal toJwtPrincipal(Claims claims) {
         return JwtPrincipal.builder()
                 .userId(claims.get("uid", Long.class))
                 .username(claims.getSubject())
@@ -113,4 +174,38 @@ public class JwtUtil {
     public List<GrantedAuthority> getAuthorities() {
         return Collections.emptyList();
     }
+
+    public Cache<String, VerifiedToken> getVerifiedTokenCache() {
+        return verifiedTokens;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedToken(JwtPrincipal principal, long expiresAtMillis) {
+    }
+
+    private static final class ExpireAtTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.adcoder.expensetracker.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import java.util.Objects;
+
+/**
+ * Matches actuator requests that arrive on the separate management port. Those are let
+ * through without a token; if the management port is the application port nothing
+ * matches, so the metrics endpoint is never public.
+ */
+@Component
+public class ManagementPortRequestMatcher implements RequestMatcher {
+
+    private final Integer managementPort;
+    private final Integer serverPort;
+
+    public ManagementPortRequestMatcher(
+            ManagementServerProperties managementServerProperties,
+            ServerProperties serverProperties
+    ) {
+        this.managementPort = managementServerProperties.getPort();
+        this.serverPort = serverProperties.getPort();
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return managementPort != null
+                && managementPort > 0
+                && !Objects.equals(managementPort, serverPort)
+                && request.getLocalPort() == managementPort
+                && request.getServletPath().startsWith("/actuator/");
+    }
+}
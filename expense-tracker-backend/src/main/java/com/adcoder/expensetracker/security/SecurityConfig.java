@@ -1,5 +1,10 @@
 package com.adcoder.expensetracker.security;
 
+import com.adcoder.expensetracker.config.PasswordHashingProperties;
+import com.adcoder.expensetracker.config.RateLimitProperties;
+import com.adcoder.expensetracker.filter.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +22,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtAuthFilter jwtAuthFilter;
+    private final ManagementPortRequestMatcher managementPortRequestMatcher;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public SecurityFilterChain getSecurityFilterChain(HttpSecurity http) throws Exception {
@@ -28,19 +37,28 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches (streamed exports) were already authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/health/ping",
                                 "/auth/register",
-                                "/auth/login"
+                                "/auth/login",
+                                "/actuator/health"
                         ).permitAll()
+                        // Metrics only without a token on the internal management port
+                        .requestMatchers(managementPortRequestMatcher).permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        if (rateLimitProperties.isEnabled()) {
+            // Not a bean, so it only runs here, after the principal is known
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, meterRegistry), JwtAuthFilter.class);
+        }
         return http.build();
     }
 
     @Bean
     public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
     }
 }
@@ -0,0 +1,8 @@
+package com.adcoder.expensetracker.security;
+
+/**
+ * The parts of an {@code AuthUser} that are safe to keep in memory. The password hash is
+ * deliberately left out so it never ends up in a cache.
+ */
+public record UserProfile(Long id, String username, String email) {
+}
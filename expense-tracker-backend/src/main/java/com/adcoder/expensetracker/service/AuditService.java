@@ -0,0 +1,12 @@
+package com.adcoder.expensetracker.service;
+
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.model.AuditAction;
+
+public interface AuditService {
+    /**
+     * Queues an audit entry, written once the surrounding transaction commits. {@code before}
+     * is null for creates and {@code after} for deletes.
+     */
+    void recordExpenseChange(AuditAction action, Long userId, ExpenseResponse before, ExpenseResponse after);
+}
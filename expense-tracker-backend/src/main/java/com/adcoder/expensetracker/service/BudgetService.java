@@ -0,0 +1,16 @@
+package com.adcoder.expensetracker.service;
+
+import com.adcoder.expensetracker.dto.BudgetEventResponse;
+import com.adcoder.expensetracker.dto.BudgetRequest;
+import com.adcoder.expensetracker.dto.BudgetResponse;
+import com.adcoder.expensetracker.dto.BudgetStatusResponse;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface BudgetService {
+    List<BudgetResponse> getBudgets();
+    BudgetResponse putBudget(String category, BudgetRequest request);
+    void deleteBudget(String category);
+    List<BudgetStatusResponse> getStatus(YearMonth month);
+    List<BudgetEventResponse> getEvents(Long afterId, int limit);
+}
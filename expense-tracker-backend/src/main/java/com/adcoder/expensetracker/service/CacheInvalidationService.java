@@ -0,0 +1,6 @@
+package com.adcoder.expensetracker.service;
+
+public interface CacheInvalidationService {
+    void invalidate(String cacheName, Long key);
+    void invalidateAll(String cacheName);
+}
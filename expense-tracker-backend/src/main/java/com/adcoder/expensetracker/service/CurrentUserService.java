@@ -0,0 +1,14 @@
+package com.adcoder.expensetracker.service;
+
+import com.adcoder.expensetracker.model.AuthUser;
+import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.adcoder.expensetracker.security.UserProfile;
+
+public interface CurrentUserService {
+    JwtPrincipal getPrincipal();
+    Long getCurrentUserId();
+    AuthUser getCurrentUserReference();
+    UserProfile getCurrentUser();
+    UserProfile getUser(Long userId);
+    void evictUser(Long userId);
+}
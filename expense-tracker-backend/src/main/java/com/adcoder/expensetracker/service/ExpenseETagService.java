@@ -0,0 +1,7 @@
+package com.adcoder.expensetracker.service;
+
+public interface ExpenseETagService {
+    String getCollectionETag();
+    String getCollectionETag(String qualifier);
+    String getExpenseETag(Long id);
+}
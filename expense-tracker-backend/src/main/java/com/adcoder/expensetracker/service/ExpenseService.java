@@ -1,14 +1,30 @@
 package com.adcoder.expensetracker.service;
 
+import com.adcoder.expensetracker.common.CursorPage;
+import com.adcoder.expensetracker.common.ExportFormat;
+import com.adcoder.expensetracker.dto.BatchCreateResponse;
+import com.adcoder.expensetracker.dto.ExpenseChangesResponse;
 import com.adcoder.expensetracker.dto.ExpenseRequest;
 import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.dto.ExpenseSearchResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 
 public interface ExpenseService {
     ExpenseResponse createExpense(ExpenseRequest request);
+    BatchCreateResponse createExpenses(List<ExpenseRequest> requests);
     ExpenseResponse getExpenseById(Long id);
     Page<ExpenseResponse> getAllExpensesForUser(Pageable pageable, String filters);
+    CursorPage<ExpenseResponse> getExpensesForUserByCursor(String cursor, int size, String filter);
+    CursorPage<ExpenseSearchResult> searchExpenses(String query, String cursor, int size);
+    ExpenseChangesResponse getChanges(String since);
+    void validateFilter(String filter);
+    void exportExpenses(Long userId, String filter, ExportFormat format, OutputStream out) throws IOException;
     ExpenseResponse updateExpense(Long id, ExpenseRequest request);
+    ExpenseResponse patchExpense(Long id, ExpenseRequest request);
     void deleteExpense(Long id);
+    long deleteExpenses(String filter);
 }
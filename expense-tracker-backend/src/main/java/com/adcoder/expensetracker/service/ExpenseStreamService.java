@@ -0,0 +1,7 @@
+package com.adcoder.expensetracker.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ExpenseStreamService {
+    SseEmitter subscribe();
+}
@@ -0,0 +1,12 @@
+package com.adcoder.expensetracker.service;
+
+import com.adcoder.expensetracker.dto.ExpenseSummaryResponse;
+import com.adcoder.expensetracker.dto.PeriodSummaryResponse;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ExpenseSummaryService {
+    ExpenseSummaryResponse getSummary(LocalDate from, LocalDate to);
+    List<PeriodSummaryResponse> getDailyTotals(LocalDate from, LocalDate to, String category);
+    List<PeriodSummaryResponse> getMonthlyTotals(LocalDate from, LocalDate to, String category);
+}
@@ -0,0 +1,7 @@
+package com.adcoder.expensetracker.service;
+
+public interface PasswordHashingService {
+    String encode(String rawPassword);
+    boolean matches(String rawPassword, String encodedPassword);
+    boolean upgradeEncoding(String encodedPassword);
+}
@@ -0,0 +1,280 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.AuditProperties;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.model.AuditAction;
+import com.adcoder.expensetracker.service.AuditService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the expense audit trail off the request path.
+ * <p>
+ * A request only offers an entry to a bounded queue once its transaction
+ * commits, so rolled-back writes are never audited. One background thread drains the queue and
+ * inserts up to {@code expense.audit.batch-size} rows per statement, waiting at most
+ * {@code expense.audit.flush-interval} for a batch to fill.
+ * <p>
+ * Overflow drops the newest entries and counts them in {@code expense.audit.dropped}. A batch
+ * the database rejects is retried row by row, so one bad entry does not take the rest with it;
+ * only the rows that fail again are counted in {@code expense.audit.failed}. The trail is therefore best
+ * effort, and a crash loses what was still queued. On shutdown the writer stops after the web
+ * server, then drains the queue for up to {@code expense.audit.drain-timeout}.
+ */
+@Service
+@Slf4j
+public class AsyncAuditService implements AuditService, SmartLifecycle {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO expense_audit (user_id, expense_id, action, old_value, new_value, occurred_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?)";
+    private static final int COLUMNS = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditProperties properties;
+    private final BlockingQueue<AuditEntry> queue;
+    private final AtomicLong droppedSinceLastWarning = new AtomicLong();
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AsyncAuditService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            AuditProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.writtenCounter = Counter.builder("expense.audit.written")
+                .description("Audit entries inserted")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("expense.audit.dropped")
+                .description("Audit entries discarded because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("expense.audit.failed")
+                .description("Audit entries lost because they could not be inserted")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("expense.audit.flush")
+                .description("Time to insert one batch of audit entries")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("expense.audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("expense.audit.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots in the audit queue")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordExpenseChange(AuditAction action, Long userId, ExpenseResponse before, ExpenseResponse after) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Long expenseId = after != null ? after.getId() : before.getId();
+        AuditEntry entry = new AuditEntry(action, userId, expenseId, before, after, OffsetDateTime.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(AuditEntry entry) {
+        if (!queue.offer(entry)) {
+            droppedCounter.increment();
+            droppedSinceLastWarning.incrementAndGet();
+        }
+    }
+
+    // ---------------------------------------------------------------- writer thread
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("Expense audit trail disabled");
+            return;
+        }
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("expense-audit-writer")
+                .daemon()
+                .start(this::writeLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(properties.getDrainTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("Stopped waiting for the audit writer with {} entries still queued", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, so requests finishing during graceful shutdown are still audited.
+     */
+    @Override
+    public int getPhase() {
+        // The web server itself stops at SMART_LIFECYCLE_PHASE - 1024
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    private void writeLoop() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        int batchSize = properties.getBatchSize();
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+
+        try {
+            while (true) {
+                AuditEntry first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch, batchSize, System.nanoTime() + flushIntervalNanos);
+                flush(batch);
+                batch.clear();
+                warnAboutDrops();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ✅ Helper: Top the batch up until it is full or the first entry has waited long enough
+    private void fillBatch(List<AuditEntry> batch, int batchSize, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            // While draining for shutdown, write whatever is there without waiting
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            AuditEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<AuditEntry> batch) {
+        try {
+            insert(batch);
+            return;
+        } catch (RuntimeException | JsonProcessingException ex) {
+            if (batch.size() == 1) {
+                failedCounter.increment();
+                log.error("Failed to write an audit entry", ex);
+                return;
+            }
+            log.warn("Failed to write {} audit entries at once, retrying them one by one", batch.size(), ex);
+        }
+
+        int failed = 0;
+        Exception lastFailure = null;
+        for (AuditEntry entry : batch) {
+            try {
+                insert(List.of(entry));
+            } catch (RuntimeException | JsonProcessingException ex) {
+                failed++;
+                lastFailure = ex;
+            }
+        }
+        if (failed > 0) {
+            failedCounter.increment(failed);
+            log.error("Failed to write {} of {} audit entries", failed, batch.size(), lastFailure);
+        }
+    }
+
+    private void insert(List<AuditEntry> batch) throws JsonProcessingException {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW_PLACEHOLDERS.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * COLUMNS];
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEntry entry = batch.get(i);
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDERS);
+            int offset = i * COLUMNS;
+            args[offset] = entry.userId();
+            args[offset + 1] = entry.expenseId();
+            args[offset + 2] = entry.action().name();
+            args[offset + 3] = toJson(entry.before());
+            args[offset + 4] = toJson(entry.after());
+            args[offset + 5] = entry.occurredAt();
+        }
+        flushTimer.record(() -> jdbcTemplate.update(sql.toString(), args));
+        writtenCounter.increment(batch.size());
+    }
+
+    private String toJson(ExpenseResponse expense) throws JsonProcessingException {
+        return expense != null ? objectMapper.writeValueAsString(expense) : null;
+    }
+
+    private void warnAboutDrops() {
+        long dropped = droppedSinceLastWarning.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("Audit queue full, dropped {} entries", dropped);
+        }
+    }
+
+    private record AuditEntry(
+            AuditAction action,
+            Long userId,
+            Long expenseId,
+            ExpenseResponse before,
+            ExpenseResponse after,
+            OffsetDateTime occurredAt
+    ) {
+    }
+}
@@ -10,63 +10,111 @@ import com.adcoder.expensetracker.model.AuthUser;
 import com.adcoder.expensetracker.repository.AuthUserRepository;
 import com.adcoder.expensetracker.security.JwtUtil;
 import com.adcoder.expensetracker.service.AuthService;
+import com.adcoder.expensetracker.service.CurrentUserService;
+import com.adcoder.expensetracker.service.PasswordHashingService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
+@Timed(value = "auth.service", histogram = true)
 public class AuthServiceImpl implements AuthService {
 
+    private static final String UK_USERNAME = "uk_auth_user_username";
+    private static final String UK_EMAIL = "uk_auth_user_email";
+
     private final AuthUserRepository authUserRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final CurrentUserService currentUserService;
 
+    /**
+     * Inserts the user in one statement and lets the unique constraints on username and email
+     * reject duplicates, which also covers two registrations racing for the same name.
+     */
     @Override
     public RegisterResponse registerUser(RegisterRequest request) {
-        // Check if user already exists
-        if (authUserRepository.existsByUsername(request.getUsername())) {
-            throw new ExpenseTrackerException("Username already exists!", HttpStatus.CONFLICT);
-        }
-
-        if (authUserRepository.existsByEmail(request.getEmail())) {
-            throw new ExpenseTrackerException("Email already exists!", HttpStatus.CONFLICT);
-        }
-
         AuthUser user = AuthMapper.toAuthUserEntity(request);
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
         user.setCreatedAt(OffsetDateTime.now());
         user.setUpdatedAt(OffsetDateTime.now());
 
-        user = authUserRepository.save(user);
+        try {
+            user = authUserRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw toConflict(ex);
+        }
 
         return AuthMapper.toRegisterResponseDto(user);
     }
 
+    private RuntimeException toConflict(DataIntegrityViolationException ex) {
+        String constraintName = null;
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraintName = violation.getConstraintName();
+                break;
+            }
+        }
+
+        if (UK_USERNAME.equalsIgnoreCase(constraintName)) {
+            return new ExpenseTrackerException("Username already exists!", HttpStatus.CONFLICT);
+        }
+        if (UK_EMAIL.equalsIgnoreCase(constraintName)) {
+            return new ExpenseTrackerException("Email already exists!", HttpStatus.CONFLICT);
+        }
+        return ex;
+    }
+
     @Override
     public AuthResponse login(AuthRequest request) {
         AuthUser user = authUserRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new ExpenseTrackerException("Invalid username or password", HttpStatus.UNAUTHORIZED));
 
-        boolean passwordMatches = passwordEncoder.matches(request.getPassword(), user.getPassword());
+        boolean passwordMatches = passwordHashingService.matches(request.getPassword(), user.getPassword());
         if (!passwordMatches) {
             throw new ExpenseTrackerException("Invalid username or password", HttpStatus.UNAUTHORIZED);
         }
 
+        if (passwordHashingService.upgradeEncoding(user.getPassword())) {
+            rehashPassword(user, request.getPassword());
+        }
+
         String token = jwtUtil.generateToken(user);
 
         return AuthMapper.toAuthResponseDto(token);
     }
 
+    /**
+     * Stores the password again with the configured work factor. Best effort: if the hashing
+     * pool is saturated the login still succeeds and the upgrade waits for the next one.
+     */
+    private void rehashPassword(AuthUser user, String rawPassword) {
+        try {
+            user.setPassword(passwordHashingService.encode(rawPassword));
+        } catch (ExpenseTrackerException ex) {
+            log.debug("Skipped password rehash. User ID = {}", user.getId());
+            return;
+        }
+        user.setUpdatedAt(OffsetDateTime.now());
+        authUserRepository.save(user);
+        currentUserService.evictUser(user.getId());
+        log.info("Rehashed password with the current work factor. User ID = {}", user.getId());
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public RegisterResponse getCurrentUser(Long userId) {
-        AuthUser user = authUserRepository.findById(userId)
-                .orElseThrow(() -> new ExpenseTrackerException("User not found", HttpStatus.NOT_FOUND));
-
-        return AuthMapper.toRegisterResponseDto(user);
+        return AuthMapper.toRegisterResponseDto(currentUserService.getUser(userId));
     }
 }
 
@@ -0,0 +1,152 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.dto.BudgetEventResponse;
+import com.adcoder.expensetracker.dto.BudgetRequest;
+import com.adcoder.expensetracker.dto.BudgetResponse;
+import com.adcoder.expensetracker.dto.BudgetState;
+import com.adcoder.expensetracker.dto.BudgetStatusResponse;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import com.adcoder.expensetracker.mapper.BudgetMapper;
+import com.adcoder.expensetracker.model.Budget;
+import com.adcoder.expensetracker.model.ExpenseRollup;
+import com.adcoder.expensetracker.model.RollupPeriod;
+import com.adcoder.expensetracker.repository.BudgetEventRepository;
+import com.adcoder.expensetracker.repository.BudgetRepository;
+import com.adcoder.expensetracker.repository.ExpenseRollupRepository;
+import com.adcoder.expensetracker.service.BudgetService;
+import com.adcoder.expensetracker.service.CurrentUserService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Budgets never aggregate expenses. Month-to-date spend is the MONTH row the rollup trigger
+ * keeps current on every write, so a status check reads one row per budgeted category.
+ * Months are UTC calendar months, matching the rollup.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "budget.service", histogram = true)
+public class BudgetServiceImpl implements BudgetService {
+
+    private static final int MAX_EVENTS_PAGE_SIZE = 200;
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetEventRepository budgetEventRepository;
+    private final ExpenseRollupRepository expenseRollupRepository;
+    private final CurrentUserService currentUserService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetResponse> getBudgets() {
+        return budgetRepository.findByIdUserIdOrderByIdCategory(currentUserService.getCurrentUserId()).stream()
+                .map(BudgetMapper::toBudgetResponseDto)
+                .toList();
+    }
+
+    /**
+     * Thresholds are evaluated on the next expense write, so a budget set below the current
+     * month's spend shows as exceeded in the status right away but records no event until then.
+     */
+    @Override
+    @Transactional
+    public BudgetResponse putBudget(String category, BudgetRequest request) {
+        String error = validate(category, request);
+        if (error != null) {
+            throw new ExpenseTrackerException(error, HttpStatus.BAD_REQUEST);
+        }
+        Budget budget = budgetRepository.upsertReturning(
+                currentUserService.getCurrentUserId(), category, request.getMonthlyLimit(),
+                request.getAlertPercent(), OffsetDateTime.now());
+        return BudgetMapper.toBudgetResponseDto(budget);
+    }
+
+    @Override
+    @Transactional
+    public void deleteBudget(String category) {
+        if (budgetRepository.deleteByUserIdAndCategory(currentUserService.getCurrentUserId(), category) == 0) {
+            throw new ExpenseTrackerException("Budget not found", HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetStatusResponse> getStatus(YearMonth month) {
+        Long userId = currentUserService.getCurrentUserId();
+        LocalDate periodStart = (month != null ? month : YearMonth.now(ZoneOffset.UTC)).atDay(1);
+
+        List<Budget> budgets = budgetRepository.findByIdUserIdOrderByIdCategory(userId);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+        Map<String, ExpenseRollup> totals = expenseRollupRepository
+                .findByIdUserIdAndIdPeriodTypeAndIdPeriodStart(userId, RollupPeriod.MONTH, periodStart).stream()
+                .collect(Collectors.toMap(rollup -> rollup.getId().getCategory(), Function.identity()));
+
+        return budgets.stream()
+                .map(budget -> toStatus(budget, periodStart, totals.get(budget.getId().getCategory())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetEventResponse> getEvents(Long afterId, int limit) {
+        return budgetEventRepository.findByUserIdAndIdGreaterThanOrderById(
+                        currentUserService.getCurrentUserId(),
+                        afterId != null ? afterId : 0L,
+                        Limit.of(Math.clamp(limit, 1, MAX_EVENTS_PAGE_SIZE))).stream()
+                .map(BudgetMapper::toBudgetEventResponseDto)
+                .toList();
+    }
+
+    // ✅ Helper: Same integer comparison as the budget_threshold_check trigger
+    private static BudgetStatusResponse toStatus(Budget budget, LocalDate periodStart, ExpenseRollup rollup) {
+        long limit = budget.getMonthlyLimit();
+        long spent = rollup != null ? rollup.getTotalAmount() : 0;
+        Integer alertPercent = budget.getAlertPercent();
+
+        BudgetState state = BudgetState.OK;
+        if (spent >= limit) {
+            state = BudgetState.EXCEEDED;
+        } else if (alertPercent != null && spent * 100 >= limit * alertPercent) {
+            state = BudgetState.WARNING;
+        }
+
+        return BudgetStatusResponse.builder()
+                .category(budget.getId().getCategory())
+                .periodStart(periodStart)
+                .monthlyLimit(limit)
+                .alertPercent(alertPercent)
+                .spent(spent)
+                .remaining(limit - spent)
+                .expenseCount(rollup != null ? rollup.getExpenseCount() : 0)
+                .percentUsed((int) (spent * 100 / limit))
+                .state(state)
+                .build();
+    }
+
+    // ✅ Helper: Column constraints from budget.xml, checked before anything is sent to the database
+    private static String validate(String category, BudgetRequest request) {
+        if (category == null || category.isBlank() || category.length() > 64) {
+            return "category must be between 1 and 64 characters";
+        }
+        if (request == null || request.getMonthlyLimit() == null || request.getMonthlyLimit() <= 0) {
+            return "monthlyLimit must be greater than 0";
+        }
+        if (request.getAlertPercent() != null && (request.getAlertPercent() < 1 || request.getAlertPercent() > 99)) {
+            return "alertPercent must be between 1 and 99";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.CacheConfig.CacheNames;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import com.adcoder.expensetracker.mapper.AuthMapper;
+import com.adcoder.expensetracker.model.AuthUser;
+import com.adcoder.expensetracker.repository.AuthUserRepository;
+import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.adcoder.expensetracker.security.UserProfile;
+import com.adcoder.expensetracker.service.CacheInvalidationService;
+import com.adcoder.expensetracker.service.CurrentUserService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import java.util.Objects;
+
+/**
+ * Resolves the authenticated user from the already verified {@link JwtPrincipal}.
+ * <p>
+ * Most callers only need the owner id or an {@link AuthUser} reference to attach
+ * to an expense, neither of which touches the database. The row is only loaded
+ * for the few paths that really need it, and only its {@link UserProfile} is kept
+ * in the {@link CacheNames#AUTH_USERS} cache.
+ */
+@Service
+public class CurrentUserServiceImpl implements CurrentUserService {
+
+    private final AuthUserRepository authUserRepository;
+    private final Cache authUserCache;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    public CurrentUserServiceImpl(
+            AuthUserRepository authUserRepository,
+            CacheManager cacheManager,
+            CacheInvalidationService cacheInvalidationService
+    ) {
+        this.authUserRepository = authUserRepository;
+        this.authUserCache = Objects.requireNonNull(cacheManager.getCache(CacheNames.AUTH_USERS));
+        this.cacheInvalidationService = cacheInvalidationService;
+    }
+
+    @Override
+    public JwtPrincipal getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Object principal = authentication == null ? null : authentication.getPrincipal();
+
+        if (!(principal instanceof JwtPrincipal jwtPrincipal) || jwtPrincipal.getUserId() == null) {
+            throw new ExpenseTrackerException("Invalid authentication context", HttpStatus.UNAUTHORIZED);
+        }
+        return jwtPrincipal;
+    }
+
+    @Override
+    public Long getCurrentUserId() {
+        return getPrincipal().getUserId();
+    }
+
+    // Uninitialized proxy: only the id is ever read, so no SELECT is issued
+    @Override
+    public AuthUser getCurrentUserReference() {
+        return authUserRepository.getReferenceById(getCurrentUserId());
+    }
+
+    @Override
+    public UserProfile getCurrentUser() {
+        return getUser(getCurrentUserId());
+    }
+
+    @Override
+    public UserProfile getUser(Long userId) {
+        UserProfile cached = authUserCache.get(userId, UserProfile.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserProfile profile = authUserRepository.findById(userId)
+                .map(AuthMapper::toUserProfile)
+                .orElseThrow(() -> new ExpenseTrackerException("User not found", HttpStatus.NOT_FOUND));
+        authUserCache.put(userId, profile);
+        return profile;
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        cacheInvalidationService.invalidate(CacheNames.AUTH_USERS, userId);
+    }
+}
@@ -0,0 +1,86 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.CacheConfig.CacheNames;
+import com.adcoder.expensetracker.config.ReadWriteRoutingDataSource;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import com.adcoder.expensetracker.repository.ExpenseCollectionVersionRepository;
+import com.adcoder.expensetracker.repository.ExpenseRepository;
+import com.adcoder.expensetracker.service.CacheInvalidationService;
+import com.adcoder.expensetracker.service.CurrentUserService;
+import com.adcoder.expensetracker.service.ExpenseETagService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Builds weak ETags for expense reads from single-row lookups, so a conditional request can
+ * be answered with 304 before the real query runs.
+ * <p>
+ * Callers must compute the tag <em>before</em> loading the data. A write that lands in between
+ * then pairs newer data with the older tag, which only costs the client one extra refetch; the
+ * other order could let a client keep stale data under a current tag.
+ * <p>
+ * Collection versions are cached per user in {@link CacheNames#EXPENSE_VERSIONS}, so a 304 for a
+ * list needs no database access at all. Expense writes evict the entry on every instance through
+ * the {@link CacheInvalidationService}; until that arrives another instance may keep answering
+ * with the previous version for a few milliseconds.
+ * <p>
+ * A cached version is never older than the last eviction. The version is always read from the
+ * primary, so a load that starts after an eviction sees the committed write. The load also runs
+ * inside the cache's atomic compute, so an eviction that arrives during a load waits for it and
+ * then removes the value. The cache's own short TTL bounds anything a lost notification leaves
+ * behind.
+ */
+@Service
+public class ExpenseETagServiceImpl implements ExpenseETagService {
+
+    private final ExpenseCollectionVersionRepository collectionVersionRepository;
+    private final ExpenseRepository expenseRepository;
+    private final CurrentUserService currentUserService;
+    private final Cache versionCache;
+
+    public ExpenseETagServiceImpl(
+            ExpenseCollectionVersionRepository collectionVersionRepository,
+            ExpenseRepository expenseRepository,
+            CurrentUserService currentUserService,
+            CacheManager cacheManager
+    ) {
+        this.collectionVersionRepository = collectionVersionRepository;
+        this.expenseRepository = expenseRepository;
+        this.currentUserService = currentUserService;
+        this.versionCache = Objects.requireNonNull(cacheManager.getCache(CacheNames.EXPENSE_VERSIONS));
+    }
+
+    /**
+     * Tag for any list or summary of the current user's expenses. Every statement that writes
+     * the user's expenses bumps the version, and users who never wrote one have version 0.
+     */
+    @Override
+    public String getCollectionETag() {
+        return getCollectionETag(null);
+    }
+
+    /**
+     * Same as {@link #getCollectionETag()}, with a qualifier for responses that also change
+     * without a write, such as summaries over a default range that moves with the current date.
+     */
+    @Override
+    public String getCollectionETag(String qualifier) {
+        Long userId = currentUserService.getCurrentUserId();
+        Long version = versionCache.get(userId, () -> ReadWriteRoutingDataSource.onPrimary(
+                () -> collectionVersionRepository.findVersionByUserId(userId).orElse(0L)));
+        String suffix = qualifier != null ? "-" + qualifier : "";
+        return "W/\"c" + userId + "-" + version + suffix + "\"";
+    }
+
+    @Override
+    public String getExpenseETag(Long id) {
+        Instant updatedAt = expenseRepository.findUpdatedAtByIdAndUserId(id, currentUserService.getCurrentUserId())
+                .orElseThrow(() -> new ExpenseTrackerException("Expense not found", HttpStatus.NOT_FOUND))
+                .toInstant();
+        return "W/\"e" + id + "-" + updatedAt.getEpochSecond() + "." + updatedAt.getNano() + "\"";
+    }
+}
@@ -0,0 +1,49 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.ExpenseExportProperties;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounds the number of exports streaming at once.
+ * <p>
+ * An export keeps its read-only transaction, and with it a pooled connection, open until the
+ * last row is written, which takes as long as the client needs to download the file. Unlike
+ * {@code ConcurrencyLimitFilter}, which only counts the request thread, the permit taken here
+ * is held until the response body is done. Exports beyond {@code maxConcurrent} are rejected
+ * right away with 503 and Retry-After, so slow downloads can never take over the pool.
+ */
+@Component
+public class ExpenseExportLimiter {
+
+    private final Semaphore permits;
+    private final long retryAfterSeconds;
+
+    public ExpenseExportLimiter(ExpenseExportProperties properties, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+        this.retryAfterSeconds = properties.getRetryAfter().toSeconds();
+        Gauge.builder("expense.export.available", permits, Semaphore::availablePermits)
+                .description("Exports that can still start before new ones are rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a permit or fails with 503. Every successful call must be paired with {@link #release()}.
+     */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new ExpenseTrackerException(
+                    "Too many exports in progress, please retry shortly",
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    retryAfterSeconds);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,119 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.common.ExportFormat;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported expenses one row at a time. Nothing is buffered beyond the
+ * underlying writer, and {@link #finish()} never closes the target stream.
+ */
+abstract class ExpenseExportWriter {
+
+    static ExpenseExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(out);
+            case NDJSON -> new NdJson(out, objectMapper);
+        };
+    }
+
+    abstract void write(ExpenseResponse expense) throws IOException;
+
+    abstract void flush() throws IOException;
+
+    abstract void finish() throws IOException;
+
+    private static final class Csv extends ExpenseExportWriter {
+        private final Writer writer;
+
+        private Csv(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("id,title,category,amount,date,description\n");
+        }
+
+        @Override
+        void write(ExpenseResponse expense) throws IOException {
+            writer.write(String.valueOf(expense.getId()));
+            writer.write(',');
+            writeField(expense.getTitle());
+            writer.write(',');
+            writeField(expense.getCategory());
+            writer.write(',');
+            writer.write(expense.getAmount() == null ? "" : String.valueOf(expense.getAmount()));
+            writer.write(',');
+            writer.write(expense.getDate() == null ? "" : expense.getDate().toString());
+            writer.write(',');
+            writeField(expense.getDescription());
+            writer.write('\n');
+        }
+
+        // RFC 4180: quote fields containing separators, quotes or line breaks
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdJson extends ExpenseExportWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter objectWriter;
+        private boolean empty = true;
+
+        private NdJson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+            this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        void write(ExpenseResponse expense) throws IOException {
+            objectWriter.writeValue(generator, expense);
+            empty = false;
+        }
+
+        @Override
+        void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (!empty) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.ExpensePartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps monthly {@code expense} partitions created ahead of time, on startup and once a day.
+ * The work is done by the {@code expense_create_partitions} database function, which takes an
+ * advisory lock, so any number of instances can run this safely.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpensePartitionMaintainer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExpensePartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${expense.partitions.cron:0 0 3 * * *}", zone = "UTC")
+    public void createUpcomingPartitions() {
+        try {
+            Integer created = jdbcTemplate.queryForObject(
+                    "SELECT expense_create_partitions(?)", Integer.class, properties.getMonthsAhead());
+            if (created != null && created > 0) {
+                log.info("Created {} expense partitions", created);
+            }
+        } catch (RuntimeException ex) {
+            // Existing partitions cover at least the coming months; retry on the next run
+            log.error("Failed to create expense partitions", ex);
+        }
+    }
+}
@@ -1,105 +1,573 @@
 package com.adcoder.expensetracker.service.impl;
 
+import com.adcoder.expensetracker.common.CursorPage;
+import com.adcoder.expensetracker.common.ExpenseChangeToken;
+import com.adcoder.expensetracker.common.ExpenseCursor;
+import com.adcoder.expensetracker.common.ExpenseSearchCursor;
+import com.adcoder.expensetracker.common.ExportFormat;
+import com.adcoder.expensetracker.config.CacheConfig.CacheNames;
+import com.adcoder.expensetracker.config.ExpenseBatchProperties;
+import com.adcoder.expensetracker.config.ExpenseChangesProperties;
+import com.adcoder.expensetracker.config.ExpenseExportProperties;
+import com.adcoder.expensetracker.dto.BatchCreateResponse;
+import com.adcoder.expensetracker.dto.BatchItemResult;
+import com.adcoder.expensetracker.dto.ExpenseChangesResponse;
 import com.adcoder.expensetracker.dto.ExpenseRequest;
 import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.dto.ExpenseSearchResult;
+import com.adcoder.expensetracker.event.ExpenseChangedEvent;
 import com.adcoder.expensetracker.exception.ExpenseTrackerException;
 import com.adcoder.expensetracker.mapper.ExpenseMapper;
+import com.adcoder.expensetracker.model.AuditAction;
 import com.adcoder.expensetracker.model.AuthUser;
 import com.adcoder.expensetracker.model.Expense;
-import com.adcoder.expensetracker.repository.AuthUserRepository;
+import com.adcoder.expensetracker.model.ExpenseTombstone;
 import com.adcoder.expensetracker.repository.ExpenseRepository;
-import com.adcoder.expensetracker.security.JwtPrincipal;
+import com.adcoder.expensetracker.repository.ExpenseRepositoryCustom;
+import com.adcoder.expensetracker.repository.ExpenseRevision;
+import com.adcoder.expensetracker.repository.ExpenseTombstoneRepository;
+import com.adcoder.expensetracker.service.AuditService;
+import com.adcoder.expensetracker.service.CacheInvalidationService;
+import com.adcoder.expensetracker.service.CurrentUserService;
 import com.adcoder.expensetracker.service.ExpenseService;
-import io.github.perplexhub.rsql.RSQLJPASupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "expense.service", histogram = true)
 public class ExpenseServiceImpl implements ExpenseService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 2000;
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "date")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_TERMS = 8;
+    private static final Pattern SEARCH_TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final ExpenseRepository expenseRepository;
-    private final AuthUserRepository authUserRepository;
+    private final CurrentUserService currentUserService;
+    private final ExpenseBatchProperties batchProperties;
+    private final ExpenseExportProperties exportProperties;
+    private final ExpenseChangesProperties changesProperties;
+    private final ExpenseTombstoneRepository expenseTombstoneRepository;
+    private final RsqlSpecificationFactory rsqlSpecificationFactory;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditService auditService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     public ExpenseResponse createExpense(ExpenseRequest request) {
-        AuthUser user = getCurrentUser();
+        AuthUser user = currentUserService.getCurrentUserReference();
 
         Expense expense = ExpenseMapper.toExpenseEntity(request, user);
         expense.setCreatedAt(OffsetDateTime.now());
         expense.setUpdatedAt(OffsetDateTime.now());
 
-        return ExpenseMapper.toExpenseResponseDto(expenseRepository.save(expense));
+        ExpenseResponse response = ExpenseMapper.toExpenseResponseDto(expenseRepository.save(expense));
+        expensesChanged(user.getId());
+        eventPublisher.publishEvent(ExpenseChangedEvent.created(user.getId(), List.of(response)));
+        auditService.recordExpenseChange(AuditAction.CREATE, user.getId(), null, response);
+        return response;
+    }
+
+    /**
+     * Validates every item, then inserts the valid ones in a single transaction.
+     * Ids come from a pooled sequence, so Hibernate can group the inserts into
+     * JDBC batches; the persistence context is flushed and cleared every
+     * {@code expense.batch.size} rows to keep memory flat.
+     */
+    @Override
+    @Transactional
+    public BatchCreateResponse createExpenses(List<ExpenseRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ExpenseTrackerException("Batch must contain at least one expense", HttpStatus.BAD_REQUEST);
+        }
+        if (requests.size() > batchProperties.getMaxItems()) {
+            throw new ExpenseTrackerException(
+                    "Batch exceeds the maximum of " + batchProperties.getMaxItems() + " expenses",
+                    HttpStatus.BAD_REQUEST);
+        }
+
+        AuthUser user = currentUserService.getCurrentUserReference();
+        OffsetDateTime now = OffsetDateTime.now();
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        int created = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            ExpenseRequest request = requests.get(index);
+            String error = validate(request);
+            if (error != null) {
+                results.add(BatchItemResult.builder().index(index).success(false).error(error).build());
+                continue;
+            }
+
+            Expense expense = ExpenseMapper.toExpenseEntity(request, user);
+            expense.setCreatedAt(now);
+            expense.setUpdatedAt(now);
+            entityManager.persist(expense);
+            results.add(BatchItemResult.builder()
+                    .index(index)
+                    .success(true)
+                    .expense(ExpenseMapper.toExpenseResponseDto(expense))
+                    .build());
+
+            if (++created % batchProperties.getSize() == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        if (created > 0) {
+            List<ExpenseResponse> createdExpenses = results.stream()
+                    .filter(BatchItemResult::isSuccess)
+                    .map(BatchItemResult::getExpense)
+                    .toList();
+            expensesChanged(user.getId());
+            eventPublisher.publishEvent(ExpenseChangedEvent.created(user.getId(), createdExpenses));
+            createdExpenses.forEach(expense ->
+                    auditService.recordExpenseChange(AuditAction.CREATE, user.getId(), null, expense));
+        }
+        return BatchCreateResponse.builder()
+                .received(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .results(results)
+                .build();
+    }
+
+    // ✅ Helper: Column constraints from expense.xml, checked before anything is sent to the database
+    private String validate(ExpenseRequest request) {
+        if (request == null) {
+            return "Expense must not be null";
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (request.getTitle().length() > 128) {
+            return "title must be at most 128 characters";
+        }
+        if (request.getCategory() == null || request.getCategory().isBlank()) {
+            return "category is required";
+        }
+        if (request.getCategory().length() > 64) {
+            return "category must be at most 64 characters";
+        }
+        if (request.getAmount() == null) {
+            return "amount is required";
+        }
+        if (request.getAmount() <= 0) {
+            return "amount must be greater than zero";
+        }
+        if (request.getDate() == null) {
+            return "date is required";
+        }
+        return null;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ExpenseResponse getExpenseById(Long id) {
         Expense expense = getExpenseForCurrentUser(id);
         return ExpenseMapper.toExpenseResponseDto(expense);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ExpenseResponse> getAllExpensesForUser(Pageable pageable, String filter) {
-        AuthUser currentUser = getCurrentUser();
+        Specification<Expense> spec = byCurrentUserAndFilter(filter);
+
+        Page<Expense> pageResult = expenseRepository.findAll(spec, pageable);
+        return pageResult.map(ExpenseMapper::toExpenseResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseResponse> getExpensesForUserByCursor(String cursor, int size, String filter) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        Specification<Expense> spec = byCurrentUserAndFilter(filter);
+
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(after(ExpenseCursor.decode(cursor)));
+        }
+
+        // One extra row tells us whether another page exists without a count query
+        List<Expense> rows = expenseRepository.findBy(spec, query -> query
+                .sortBy(CURSOR_SORT)
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Expense> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Expense last = content.get(content.size() - 1);
+            nextCursor = new ExpenseCursor(last.getDate(), last.getId()).encode();
+        }
+
+        return CursorPage.<ExpenseResponse>builder()
+                .content(content.stream().map(ExpenseMapper::toExpenseResponseDto).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Ranked full-text search over title and description. Every word in {@code query} must match,
+     * each as a prefix so results follow the user while they type. Highlights are HTML-escaped
+     * with matches wrapped in {@code <mark>}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseSearchResult> searchExpenses(String query, String cursor, int size) {
+        String tsQuery = toPrefixTsQuery(query);
+        int pageSize = Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE);
+        ExpenseSearchCursor after = cursor != null && !cursor.isBlank() ? ExpenseSearchCursor.decode(cursor) : null;
+
+        // One extra row tells us whether another page exists without a count query
+        List<ExpenseSearchResult> rows = expenseRepository.search(
+                currentUserService.getCurrentUserId(), tsQuery, after, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ExpenseSearchResult> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ExpenseSearchResult last = content.get(content.size() - 1);
+            nextCursor = new ExpenseSearchCursor(last.getRank(), last.getExpense().getId()).encode();
+        }
+        content.forEach(result -> {
+            result.setTitleHighlight(toHtmlHighlight(result.getTitleHighlight()));
+            result.setDescriptionHighlight(toHtmlHighlight(result.getDescriptionHighlight()));
+        });
+
+        return CursorPage.<ExpenseSearchResult>builder()
+                .content(content)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Changes after {@code since}, oldest first. A blank token returns no changes and a starting
+     * token; clients take it before loading the full list. Upserts must be applied before deletes,
+     * and tombstones are only sent once upserts have caught up, so a deleted expense never comes back.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ExpenseChangesResponse getChanges(String since) {
+        Instant now = Instant.now();
+        Instant settled = now.minus(changesProperties.getSettleWindow());
+        if (since == null || since.isBlank()) {
+            return ExpenseChangesResponse.builder()
+                    .upserts(List.of())
+                    .deletes(List.of())
+                    .hasMore(false)
+                    .nextToken(ExpenseChangeToken.at(settled).encode())
+                    .build();
+        }
+
+        ExpenseChangeToken token = ExpenseChangeToken.decode(since);
+        if (token.deletesAfter().isBefore(now.minus(changesProperties.getTombstoneRetention()))) {
+            throw new ExpenseTrackerException(
+                    "Change token has expired, reload all expenses", HttpStatus.GONE);
+        }
+
+        Long userId = currentUserService.getCurrentUserId();
+        int maxChanges = changesProperties.getMaxChanges();
+
+        // One extra row tells us whether more changes are waiting
+        List<Expense> upserts = expenseRepository.findChangesAfter(
+                userId, token.upsertsAfter().atOffset(ZoneOffset.UTC), token.upsertsAfterId(),
+                Limit.of(maxChanges + 1));
+        boolean moreUpserts = upserts.size() > maxChanges;
+        if (moreUpserts) {
+            upserts = upserts.subList(0, maxChanges);
+            Expense last = upserts.get(upserts.size() - 1);
+            return ExpenseChangesResponse.builder()
+                    .upserts(upserts.stream().map(ExpenseMapper::toExpenseResponseDto).toList())
+                    .deletes(List.of())
+                    .hasMore(true)
+                    .nextToken(new ExpenseChangeToken(
+                            last.getUpdatedAt().toInstant(), last.getId(),
+                            token.deletesAfter(), token.deletesAfterId()).encode())
+                    .build();
+        }
+
+        List<ExpenseTombstone> deletes = expenseTombstoneRepository.findChangesAfter(
+                userId, token.deletesAfter().atOffset(ZoneOffset.UTC), token.deletesAfterId(),
+                Limit.of(maxChanges + 1));
+        boolean moreDeletes = deletes.size() > maxChanges;
+        Instant deletesAfter = settled;
+        long deletesAfterId = 0;
+        if (moreDeletes) {
+            deletes = deletes.subList(0, maxChanges);
+            ExpenseTombstone last = deletes.get(deletes.size() - 1);
+            deletesAfter = last.getId().getDeletedAt().toInstant();
+            deletesAfterId = last.getId().getExpenseId();
+        }
+
+        // Caught up: restart from the settle window so writes that committed late are not missed
+        return ExpenseChangesResponse.builder()
+                .upserts(upserts.stream().map(ExpenseMapper::toExpenseResponseDto).toList())
+                .deletes(deletes.stream().map(tombstone -> tombstone.getId().getExpenseId()).toList())
+                .hasMore(moreDeletes)
+                .nextToken(new ExpenseChangeToken(settled, 0, deletesAfter, deletesAfterId).encode())
+                .build();
+    }
+
+    @Override
+    public void validateFilter(String filter) {
+        if (filter != null && !filter.isBlank()) {
+            rsqlSpecificationFactory.parse(filter);
+        }
+    }
+
+    /**
+     * Streams every matching expense into {@code out}. The user id is passed in rather than read
+     * from the security context because this runs on the async thread serving the response body.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportExpenses(Long userId, String filter, ExportFormat format, OutputStream out) throws IOException {
+        Specification<Expense> spec = byUserAndFilter(userId, filter);
+        ExpenseExportWriter writer = ExpenseExportWriter.create(format, out, objectMapper);
+
+        try (Stream<ExpenseResponse> rows = expenseRepository.streamAll(spec, CURSOR_SORT, exportProperties.getFetchSize())) {
+            Iterator<ExpenseResponse> iterator = rows.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++written % exportProperties.getFlushEvery() == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.finish();
+    }
+
+    // ✅ Helper: reduce free text to "term:* & term:*" so tsquery syntax in the input is never parsed
+    static String toPrefixTsQuery(String query) {
+        String tsQuery = query == null ? "" : Arrays.stream(SEARCH_TERM_SEPARATOR.split(query.strip()))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_SEARCH_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        if (tsQuery.isEmpty()) {
+            throw new ExpenseTrackerException("Search query must contain at least one word", HttpStatus.BAD_REQUEST);
+        }
+        return tsQuery;
+    }
 
-        Specification<Expense> spec = Specification.allOf(byUser(currentUser.getId()));
+    // ✅ Helper: escape the headline, then turn the database's match delimiters into <mark> tags
+    private static String toHtmlHighlight(String headline) {
+        if (headline == null || headline.isEmpty()) {
+            return headline;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(String.valueOf(ExpenseRepositoryCustom.HIGHLIGHT_START), "<mark>")
+                .replace(String.valueOf(ExpenseRepositoryCustom.HIGHLIGHT_STOP), "</mark>");
+    }
+
+    private Specification<Expense> byCurrentUserAndFilter(String filter) {
+        return byUserAndFilter(currentUserService.getCurrentUserId(), filter);
+    }
+
+    private Specification<Expense> byUserAndFilter(Long userId, String filter) {
+        Specification<Expense> spec = Specification.allOf(byUser(userId));
 
         if (filter != null && !filter.isBlank()) {
-            Specification<Expense> rsqlSpec = RSQLJPASupport.toSpecification(filter);
+            Specification<Expense> rsqlSpec = rsqlSpecificationFactory.toSpecification(filter);
             spec = spec.and(rsqlSpec);
         }
-
-        Page<Expense> pageResult = expenseRepository.findAll(spec, pageable);
-        return pageResult.map(ExpenseMapper::toExpenseResponseDto);
+        return spec;
     }
 
     private Specification<Expense> byUser(Long userId) {
         return (root, query, cb) -> cb.equal(root.get("authUser").get("id"), userId);
     }
 
+    // Rows strictly after the cursor in (date desc, id desc) order
+    private Specification<Expense> after(ExpenseCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("date"), cursor.date()),
+                cb.and(
+                        cb.equal(root.get("date"), cursor.date()),
+                        cb.lessThan(root.get("id"), cursor.id())
+                )
+        );
+    }
+
+    /**
+     * Replaces the expense with a single {@code UPDATE ... RETURNING}, without loading it first.
+     */
     @Override
+    @Transactional
     public ExpenseResponse updateExpense(Long id, ExpenseRequest request) {
-        Expense expense = getExpenseForCurrentUser(id);
-
-        expense.setTitle(request.getTitle());
-        expense.setCategory(request.getCategory());
-        expense.setAmount(request.getAmount());
-        expense.setDate(request.getDate());
-        expense.setDescription(request.getDescription());
-        expense.setUpdatedAt(OffsetDateTime.now());
+        String error = validate(request);
+        if (error != null) {
+            throw new ExpenseTrackerException(error, HttpStatus.BAD_REQUEST);
+        }
 
-        return ExpenseMapper.toExpenseResponseDto(expenseRepository.save(expense));
+        Long userId = currentUserService.getCurrentUserId();
+        ExpenseRevision revision = checkApplied(
+                expenseRepository.replaceReturning(id, userId, request, OffsetDateTime.now()));
+        expensesChanged(userId);
+        ExpenseResponse response = revision.after();
+        eventPublisher.publishEvent(ExpenseChangedEvent.updated(userId, response));
+        auditService.recordExpenseChange(AuditAction.UPDATE, userId, revision.before(), response);
+        return response;
     }
 
+    /**
+     * Applies only the non-null fields of {@code request}, in one statement like {@link #updateExpense}.
+     * A field cannot be cleared this way; use PUT for that.
+     */
     @Override
-    public void deleteExpense(Long id) {
-        Expense expense = getExpenseForCurrentUser(id);
-        expenseRepository.delete(expense);
+    @Transactional
+    public ExpenseResponse patchExpense(Long id, ExpenseRequest request) {
+        String error = validatePatch(request);
+        if (error != null) {
+            throw new ExpenseTrackerException(error, HttpStatus.BAD_REQUEST);
+        }
+
+        Long userId = currentUserService.getCurrentUserId();
+        ExpenseRevision revision = checkApplied(
+                expenseRepository.patchReturning(id, userId, request, OffsetDateTime.now()));
+        expensesChanged(userId);
+        ExpenseResponse response = revision.after();
+        eventPublisher.publishEvent(ExpenseChangedEvent.updated(userId, response));
+        auditService.recordExpenseChange(AuditAction.UPDATE, userId, revision.before(), response);
+        return response;
     }
 
-    // ✅ Helper: Fetch expense only if it belongs to current user
-    private Expense getExpenseForCurrentUser(Long expenseId) {
-        AuthUser user = getCurrentUser();
-        return expenseRepository.findByAuthUserAndId(user, expenseId)
+    // ✅ Helper: No revision means the expense is missing, an unapplied one that its version moved on
+    private ExpenseRevision checkApplied(Optional<ExpenseRevision> revision) {
+        ExpenseRevision result = revision
                 .orElseThrow(() -> new ExpenseTrackerException("Expense not found", HttpStatus.NOT_FOUND));
+        if (!result.isApplied()) {
+            throw new ExpenseTrackerException(
+                    "Expense was modified by another request (now at version " + result.before().getVersion()
+                            + "), reload and try again",
+                    HttpStatus.CONFLICT);
+        }
+        return result;
     }
 
-    // ✅ Helper: Fetch current user from SecurityContext
-    private AuthUser getCurrentUser() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    private String validatePatch(ExpenseRequest request) {
+        if (request == null) {
+            return "Expense must not be null";
+        }
+        if (request.getTitle() != null && (request.getTitle().isBlank() || request.getTitle().length() > 128)) {
+            return "title must be between 1 and 128 characters";
+        }
+        if (request.getCategory() != null
+                && (request.getCategory().isBlank() || request.getCategory().length() > 64)) {
+            return "category must be between 1 and 64 characters";
+        }
+        if (request.getAmount() != null && request.getAmount() <= 0) {
+            return "amount must be greater than zero";
+        }
+        return null;
+    }
 
-        if (!(principal instanceof JwtPrincipal jwtPrincipal)) {
-            throw new ExpenseTrackerException("Invalid authentication context", HttpStatus.UNAUTHORIZED);
+    @Override
+    @Transactional
+    public void deleteExpense(Long id) {
+        Long userId = currentUserService.getCurrentUserId();
+        Expense deleted = expenseRepository.deleteReturning(id, userId)
+                .orElseThrow(() -> new ExpenseTrackerException("Expense not found", HttpStatus.NOT_FOUND));
+        expensesChanged(userId);
+        eventPublisher.publishEvent(ExpenseChangedEvent.deleted(userId, List.of(id)));
+        auditService.recordExpenseChange(
+                AuditAction.DELETE, userId, ExpenseMapper.toExpenseResponseDto(deleted), null);
+    }
+
+    /**
+     * Deletes every expense matching the RSQL filter, {@code expense.batch.delete-chunk-size} rows
+     * per transaction so locks and WAL stay bounded. Chunks already committed stay deleted if a
+     * later one fails.
+     */
+    @Override
+    public long deleteExpenses(String filter) {
+        if (filter == null || filter.isBlank()) {
+            throw new ExpenseTrackerException("filter is required to delete expenses in bulk", HttpStatus.BAD_REQUEST);
         }
 
-        return authUserRepository.findById(jwtPrincipal.getUserId())
-                .orElseThrow(() -> new ExpenseTrackerException("User not found", HttpStatus.NOT_FOUND));
+        Long userId = currentUserService.getCurrentUserId();
+        Specification<Expense> spec = byUserAndFilter(userId, filter);
+        int chunkSize = batchProperties.getDeleteChunkSize();
+        long deleted = 0;
+
+        try {
+            while (true) {
+                Integer chunkDeleted = transactionTemplate.execute(status -> {
+                    List<Long> ids = expenseRepository.findIds(spec, chunkSize);
+                    if (ids.isEmpty()) {
+                        return null;
+                    }
+                    List<Expense> removed = expenseRepository.deleteReturningByIdIn(ids, userId);
+                    // Delivered once this chunk commits
+                    eventPublisher.publishEvent(ExpenseChangedEvent.deleted(userId,
+                            removed.stream().map(Expense::getId).toList()));
+                    removed.forEach(expense -> auditService.recordExpenseChange(
+                            AuditAction.DELETE, userId, ExpenseMapper.toExpenseResponseDto(expense), null));
+                    return removed.size();
+                });
+                if (chunkDeleted == null) {
+                    return deleted;
+                }
+                deleted += chunkDeleted;
+            }
+        } finally {
+            if (deleted > 0) {
+                expensesChanged(userId);
+            }
+        }
+    }
+
+    // ✅ Helper: Drop cached state derived from the user's expenses, on every instance once committed
+    private void expensesChanged(Long userId) {
+        cacheInvalidationService.invalidate(CacheNames.EXPENSE_VERSIONS, userId);
+    }
+
+    // ✅ Helper: Fetch expense only if it belongs to current user
+    private Expense getExpenseForCurrentUser(Long expenseId) {
+        return expenseRepository.findByIdAndAuthUserId(expenseId, currentUserService.getCurrentUserId())
+                .orElseThrow(() -> new ExpenseTrackerException("Expense not found", HttpStatus.NOT_FOUND));
     }
 }
 
@@ -0,0 +1,244 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.CacheConfig.CacheNames;
+import com.adcoder.expensetracker.config.ExpenseStreamProperties;
+import com.adcoder.expensetracker.event.ExpenseChangedEvent;
+import com.adcoder.expensetracker.event.RemoteCacheEvictionEvent;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import com.adcoder.expensetracker.service.CurrentUserService;
+import com.adcoder.expensetracker.service.ExpenseStreamService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of committed expense changes to server-sent event streams.
+ * <p>
+ * Every subscriber gets a bounded buffer and its own virtual thread that writes the buffer to
+ * the connection, so an idle stream costs a parked virtual thread and no request worker.
+ * Publishing only offers to buffers and never blocks the writing request. A subscriber whose
+ * buffer is full is disconnected rather than slowing anyone else down; on reconnect the client
+ * catches up through {@code GET /expenses/changes}.
+ * <p>
+ * Changes made on other instances are not replayed here. When the cache invalidation bus
+ * reports one, the user's streams get a {@code resync} event instead.
+ */
+@Service
+@Slf4j
+public class ExpenseStreamServiceImpl implements ExpenseStreamService {
+
+    private static final String READY_EVENT = "ready";
+    private static final String RESYNC_EVENT = "resync";
+    private static final StreamEvent HEARTBEAT = new StreamEvent(null, null);
+
+    private final CurrentUserService currentUserService;
+    private final ExpenseStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadFactory senderThreadFactory = Thread.ofVirtual().name("expense-stream-", 0).factory();
+
+    private final Counter publishedCounter;
+    private final Counter evictionCounter;
+
+    public ExpenseStreamServiceImpl(
+            CurrentUserService currentUserService,
+            ExpenseStreamProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.currentUserService = currentUserService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        this.publishedCounter = Counter.builder("expense.stream.published")
+                .description("Change events handed to subscriber buffers")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("expense.stream.evictions")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("expense.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open expense event streams")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        Long userId = currentUserService.getCurrentUserId();
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(properties.getBufferSize()));
+
+        AtomicBoolean registered = new AtomicBoolean();
+        subscribers.compute(userId, (key, userSubscribers) -> {
+            Set<Subscriber> set = userSubscribers != null ? userSubscribers : ConcurrentHashMap.newKeySet();
+            if (set.size() < properties.getMaxSubscribersPerUser()) {
+                set.add(subscriber);
+                registered.set(true);
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (!registered.get()) {
+            throw new ExpenseTrackerException("Too many open expense streams", HttpStatus.TOO_MANY_REQUESTS);
+        }
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> {
+            subscriber.emitterDone.set(true);
+            close(subscriber);
+        });
+        emitter.onError(ex -> {
+            subscriber.emitterDone.set(true);
+            close(subscriber);
+        });
+        emitter.onTimeout(() -> close(subscriber));
+
+        subscriber.queue.offer(new StreamEvent(READY_EVENT, "{}"));
+        subscriber.sender = senderThreadFactory.newThread(() -> drain(subscriber));
+        subscriber.sender.start();
+        log.info("Expense stream opened. User ID = {}", userId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null) {
+            return;
+        }
+        String data;
+        try {
+            // Serialized once here rather than once per subscriber
+            data = objectMapper.writeValueAsString(event.data());
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize expense change for streaming. User ID = {}", event.userId(), ex);
+            return;
+        }
+        StreamEvent streamEvent = new StreamEvent(event.type().getEventName(), data);
+        for (Subscriber subscriber : userSubscribers) {
+            offer(subscriber, streamEvent);
+            publishedCounter.increment();
+        }
+    }
+
+    @EventListener
+    public void onRemoteCacheEviction(RemoteCacheEvictionEvent event) {
+        StreamEvent resync = new StreamEvent(RESYNC_EVENT, "{}");
+        if (event.cacheName() == null || (CacheNames.EXPENSE_VERSIONS.equals(event.cacheName()) && event.key() == null)) {
+            subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(s -> offer(s, resync)));
+        } else if (CacheNames.EXPENSE_VERSIONS.equals(event.cacheName())) {
+            Set<Subscriber> userSubscribers = subscribers.get(event.key());
+            if (userSubscribers != null) {
+                userSubscribers.forEach(s -> offer(s, resync));
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${expense.stream.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(s -> offer(s, HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(this::close));
+    }
+
+    // ✅ Helper: Never blocks; a subscriber that cannot keep up is dropped instead
+    private void offer(Subscriber subscriber, StreamEvent event) {
+        if (!subscriber.queue.offer(event)) {
+            evictionCounter.increment();
+            log.info("Disconnecting slow expense stream. User ID = {}", subscriber.userId);
+            close(subscriber);
+        }
+    }
+
+    // Runs on the subscriber's virtual thread, the only thread that writes to its emitter
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed.get()) {
+                StreamEvent event = subscriber.queue.take();
+                subscriber.emitter.send(toSseEvent(event));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Expense stream closed by client. User ID = {}", subscriber.userId);
+        } finally {
+            close(subscriber);
+            if (!subscriber.emitterDone.get()) {
+                try {
+                    subscriber.emitter.complete();
+                } catch (RuntimeException ex) {
+                    log.debug("Expense stream already completed. User ID = {}", subscriber.userId);
+                }
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(StreamEvent event) {
+        if (event == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(event.name())
+                .data(event.data());
+        if (READY_EVENT.equals(event.name())) {
+            builder.reconnectTime(properties.getReconnectDelay().toMillis());
+        }
+        return builder;
+    }
+
+    // ✅ Helper: Deregister and wake the sender, which completes the emitter on its own thread
+    private void close(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.userId, (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        subscriberCount.decrementAndGet();
+        Thread sender = subscriber.sender;
+        if (sender != null && sender != Thread.currentThread()) {
+            sender.interrupt();
+        }
+    }
+
+    private record StreamEvent(String name, String data) {
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean emitterDone = new AtomicBoolean();
+        private volatile Thread sender;
+
+        private Subscriber(Long userId, SseEmitter emitter, BlockingQueue<StreamEvent> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.dto.CategorySummaryResponse;
+import com.adcoder.expensetracker.dto.ExpenseSummaryResponse;
+import com.adcoder.expensetracker.dto.PeriodSummaryResponse;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import com.adcoder.expensetracker.model.RollupPeriod;
+import com.adcoder.expensetracker.repository.ExpenseRollupRepository;
+import com.adcoder.expensetracker.service.CurrentUserService;
+import com.adcoder.expensetracker.service.ExpenseSummaryService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Reports are served from {@code expense_rollup}, so their cost depends on the
+ * number of days and categories in the range, not on how many expenses a user has.
+ * Periods are UTC calendar days and months, matching the rollup trigger.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "expense.summary.service", histogram = true)
+@Transactional(readOnly = true)
+public class ExpenseSummaryServiceImpl implements ExpenseSummaryService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final ExpenseRollupRepository expenseRollupRepository;
+    private final CurrentUserService currentUserService;
+
+    @Override
+    public ExpenseSummaryResponse getSummary(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : today();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1L);
+        validateRange(start, end);
+
+        LocalDate toExclusive = end.plusDays(1);
+        LocalDate headEnd = start.getDayOfMonth() == 1 ? start : start.withDayOfMonth(1).plusMonths(1);
+        LocalDate tailStart = toExclusive.withDayOfMonth(1);
+        if (!headEnd.isBefore(tailStart)) {
+            // No whole month inside the range: read everything from DAY rows
+            headEnd = toExclusive;
+            tailStart = toExclusive;
+        }
+
+        List<CategorySummaryResponse> categories = expenseRollupRepository.sumByCategory(
+                currentUserService.getCurrentUserId(), start, headEnd, tailStart, toExclusive);
+
+        return ExpenseSummaryResponse.builder()
+                .from(start)
+                .to(end)
+                .totalAmount(categories.stream().mapToLong(CategorySummaryResponse::getTotalAmount).sum())
+                .expenseCount(categories.stream().mapToLong(CategorySummaryResponse::getExpenseCount).sum())
+                .categories(categories)
+                .build();
+    }
+
+    @Override
+    public List<PeriodSummaryResponse> getDailyTotals(LocalDate from, LocalDate to, String category) {
+        LocalDate end = to != null ? to : today();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1L);
+        validateRange(start, end);
+
+        return expenseRollupRepository.sumByPeriod(
+                currentUserService.getCurrentUserId(), RollupPeriod.DAY, start, end.plusDays(1), category);
+    }
+
+    @Override
+    public List<PeriodSummaryResponse> getMonthlyTotals(LocalDate from, LocalDate to, String category) {
+        LocalDate end = (to != null ? to : today()).withDayOfMonth(1);
+        LocalDate start = from != null ? from.withDayOfMonth(1) : end.minusMonths(11);
+        validateRange(start, end);
+
+        return expenseRollupRepository.sumByPeriod(
+                currentUserService.getCurrentUserId(), RollupPeriod.MONTH, start, end.plusMonths(1), category);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ExpenseTrackerException("'from' must not be after 'to'", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+}
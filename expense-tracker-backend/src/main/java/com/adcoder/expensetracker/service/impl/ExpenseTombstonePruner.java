@@ -0,0 +1,51 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.ExpenseChangesProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Deletes expense tombstones past their retention, in small batches so each statement holds
+ * its locks briefly. Safe to run on every instance at once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpenseTombstonePruner {
+
+    private static final String PRUNE_SQL = """
+            DELETE FROM expense_tombstone
+            WHERE ctid = ANY (ARRAY(
+                SELECT ctid FROM expense_tombstone WHERE deleted_at < ? LIMIT ?
+            ))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExpenseChangesProperties properties;
+
+    @Scheduled(cron = "${expense.changes.prune-cron:0 30 3 * * *}", zone = "UTC")
+    public void pruneExpiredTombstones() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(properties.getTombstoneRetention()));
+        int batchSize = properties.getPruneBatchSize();
+        long pruned = 0;
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PRUNE_SQL, cutoff, batchSize);
+                pruned += deleted;
+            } while (deleted == batchSize);
+        } catch (RuntimeException ex) {
+            // Whatever is left is picked up on the next run
+            log.error("Failed to prune expense tombstones", ex);
+        }
+        if (pruned > 0) {
+            log.info("Pruned {} expense tombstones older than {}", pruned, cutoff.toInstant());
+        }
+    }
+}
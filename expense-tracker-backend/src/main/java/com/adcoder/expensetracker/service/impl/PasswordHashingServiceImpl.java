@@ -0,0 +1,169 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.PasswordHashingProperties;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import com.adcoder.expensetracker.service.PasswordHashingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a small pool sized to the cores instead of the request thread.
+ * <p>
+ * A login burst can then only keep {@code threads} cores busy, and at most
+ * {@code queueCapacity} more requests wait for their turn. Everything beyond that is rejected
+ * immediately with 503 and Retry-After, so the remaining workers stay free for cheap reads.
+ * <p>
+ * Every caller holds a server worker while it waits, so running and queued tasks together are
+ * capped at half of the Undertow worker pool, whatever {@code queueCapacity} says.
+ */
+@Service
+@Slf4j
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private static final String EXECUTOR_NAME = "password-hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejections;
+
+    public PasswordHashingServiceImpl(
+            PasswordEncoder passwordEncoder,
+            PasswordHashingProperties properties,
+            ServerProperties serverProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        int queueCapacity = queueCapacity(properties, serverProperties);
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // Exposes executor.queued, executor.active, executor.completed, ... tagged name=password-hashing
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .description("Time spent hashing or checking a password on the hashing pool")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hash")
+                .description("Time spent hashing or checking a password on the hashing pool")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("password.hash.rejections")
+                .description("Hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Only parses the stored hash, so it runs on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejections.increment();
+            throw saturated();
+        }
+
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejections.increment();
+            throw saturated();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            rejections.increment();
+            Thread.currentThread().interrupt();
+            throw saturated();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static int queueCapacity(PasswordHashingProperties properties, ServerProperties serverProperties) {
+        // Same defaults Spring Boot applies to Undertow when the sizes are not set
+        ServerProperties.Undertow.Threads undertowThreads = serverProperties.getUndertow().getThreads();
+        int ioThreads = undertowThreads.getIo() != null
+                ? undertowThreads.getIo()
+                : Math.max(Runtime.getRuntime().availableProcessors(), 2);
+        int workers = undertowThreads.getWorker() != null ? undertowThreads.getWorker() : ioThreads * 8;
+
+        int capacity = Math.max(0, Math.min(properties.getQueueCapacity(), workers / 2 - properties.getThreads()));
+        if (capacity < properties.getQueueCapacity()) {
+            log.warn("Limiting the password hashing queue to {} so waiting logins cannot hold more than half of {} workers",
+                    capacity, workers);
+        }
+        return capacity;
+    }
+
+    private ExpenseTrackerException saturated() {
+        return new ExpenseTrackerException(
+                "Too many sign-in requests, please retry shortly",
+                HttpStatus.SERVICE_UNAVAILABLE,
+                properties.getRetryAfter().toSeconds());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
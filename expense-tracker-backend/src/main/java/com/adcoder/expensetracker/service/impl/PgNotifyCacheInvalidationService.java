@@ -0,0 +1,384 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.CacheInvalidationProperties;
+import com.adcoder.expensetracker.event.RemoteCacheEvictionEvent;
+import com.adcoder.expensetracker.service.CacheInvalidationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the in-process caches of all backend instances in step through Postgres LISTEN/NOTIFY.
+ * <p>
+ * An eviction is applied locally as soon as the surrounding transaction commits and queued for
+ * the other instances. One background thread owns a dedicated connection outside the pool: it
+ * sends the queued evictions as one {@code pg_notify} per poll interval and applies evictions
+ * received from the others. After a lost connection it reconnects with backoff and clears every
+ * local cache, since notifications sent in the meantime are gone.
+ * <p>
+ * Payload: {@code v1|<origin>|<sentAtMillis>|<cache>:<key>,<cache>:*,...}, where {@code *} clears
+ * the whole cache and {@code *:*} every cache.
+ * <p>
+ * Evictions received from another instance, and the full clear after a reconnect, are also
+ * published as a {@link RemoteCacheEvictionEvent}. Local evictions are not: the code that made
+ * the write already knows about it.
+ */
+@Service
+@Slf4j
+public class PgNotifyCacheInvalidationService implements CacheInvalidationService, SmartLifecycle {
+
+    private static final String VERSION = "v1";
+    private static final String ALL = "*";
+    private static final String CLEAR_EVERYTHING = ALL + ":" + ALL;
+    // Postgres rejects payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final CacheManager cacheManager;
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+    private final BlockingQueue<String> outbound;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicBoolean connected = new AtomicBoolean();
+
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Counter rejectedCounter;
+    private final Counter reconnectCounter;
+    private final Timer lagTimer;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+    private Connection connection;
+
+    public PgNotifyCacheInvalidationService(
+            CacheManager cacheManager,
+            DataSourceProperties dataSourceProperties,
+            CacheInvalidationProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + properties.getChannel());
+        }
+        this.cacheManager = cacheManager;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.outbound = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+
+        this.sentCounter = Counter.builder("cache.invalidation.sent")
+                .description("Evictions published to other instances")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cache.invalidation.received")
+                .description("Evictions received from other instances")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("cache.invalidation.rejected")
+                .description("Malformed notifications and tokens that were ignored")
+                .register(meterRegistry);
+        this.reconnectCounter = Counter.builder("cache.invalidation.reconnects")
+                .description("Times the listener connection was re-established")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("cache.invalidation.lag")
+                .description("Time from publishing an eviction on one instance to applying it on another")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("cache.invalidation.pending", outbound, BlockingQueue::size)
+                .description("Evictions waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("cache.invalidation.connected", connected, flag -> flag.get() ? 1 : 0)
+                .description("1 while the listener connection is up")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void invalidate(String cacheName, Long key) {
+        afterCommit(cacheName + ":" + key);
+    }
+
+    @Override
+    public void invalidateAll(String cacheName) {
+        afterCommit(cacheName + ":" + ALL);
+    }
+
+    private void afterCommit(String token) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(token);
+                }
+            });
+        } else {
+            publish(token);
+        }
+    }
+
+    private void publish(String token) {
+        apply(token, false);
+        if (running && !outbound.offer(token)) {
+            overflowed.set(true);
+        }
+    }
+
+    // ---------------------------------------------------------------- listener thread
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("Cache invalidation bus disabled, evictions stay local");
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            try {
+                listenerThread.join(properties.getPollInterval().multipliedBy(4).toMillis() + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        Duration backoff = properties.getReconnectInitialBackoff();
+        boolean everConnected = false;
+
+        while (running) {
+            try {
+                if (connection == null) {
+                    connect();
+                    if (everConnected) {
+                        reconnectCounter.increment();
+                        // Anything published while we were away is lost
+                        clearAllCaches();
+                        eventPublisher.publishEvent(new RemoteCacheEvictionEvent(null, null));
+                    }
+                    everConnected = true;
+                    backoff = properties.getReconnectInitialBackoff();
+                }
+
+                sendPending();
+                PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                        .getNotifications((int) properties.getPollInterval().toMillis());
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        try {
+                            receive(notification.getParameter());
+                        } catch (RuntimeException ex) {
+                            // A bad payload must never take the listener thread down
+                            reject(notification.getParameter(), ex);
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                log.warn("Cache invalidation connection lost, reconnecting in {}", backoff, ex);
+                closeConnection();
+                sleep(backoff);
+                backoff = min(backoff.multipliedBy(2), properties.getReconnectMaxBackoff());
+            }
+        }
+        closeConnection();
+    }
+
+    private void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + properties.getChannel());
+        }
+        connected.set(true);
+        log.info("Listening for cache invalidations on channel {}", properties.getChannel());
+    }
+
+    private void sendPending() throws SQLException {
+        Set<String> tokens = new LinkedHashSet<>();
+        List<String> drained = new ArrayList<>();
+        outbound.drainTo(drained);
+        tokens.addAll(drained);
+        if (overflowed.getAndSet(false)) {
+            tokens = Set.of(CLEAR_EVERYTHING);
+        }
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : toPayloads(tokens)) {
+                statement.setString(1, properties.getChannel());
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        } catch (SQLException ex) {
+            // The batch is lost; make the others drop everything once we are back
+            overflowed.set(true);
+            throw ex;
+        }
+        sentCounter.increment(tokens.size());
+    }
+
+    private List<String> toPayloads(Set<String> tokens) {
+        String header = VERSION + "|" + origin + "|" + System.currentTimeMillis() + "|";
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(header);
+        for (String token : tokens) {
+            boolean empty = payload.length() == header.length();
+            // Cache names and keys are ASCII, so chars and bytes match
+            if (!empty && payload.length() + token.length() + 1 > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(header);
+                empty = true;
+            }
+            if (!empty) {
+                payload.append(',');
+            }
+            payload.append(token);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    private void receive(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            reject(payload, null);
+            return;
+        }
+        if (origin.equals(parts[1])) {
+            return;
+        }
+
+        try {
+            long sentAt = Long.parseLong(parts[2]);
+            lagTimer.record(Math.max(0, System.currentTimeMillis() - sentAt), TimeUnit.MILLISECONDS);
+        } catch (NumberFormatException ex) {
+            reject(payload, ex);
+            return;
+        }
+        for (String token : parts[3].split(",")) {
+            try {
+                apply(token, true);
+                receivedCounter.increment();
+            } catch (RuntimeException ex) {
+                // Skip just this token, the rest of the batch is still good
+                reject(token, ex);
+            }
+        }
+    }
+
+    private void apply(String token, boolean remote) {
+        if (CLEAR_EVERYTHING.equals(token)) {
+            clearAllCaches();
+            if (remote) {
+                eventPublisher.publishEvent(new RemoteCacheEvictionEvent(null, null));
+            }
+            return;
+        }
+
+        int separator = token.lastIndexOf(':');
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw new IllegalArgumentException("Malformed cache invalidation token: " + token);
+        }
+        String cacheName = token.substring(0, separator);
+        String key = token.substring(separator + 1);
+        Long id = ALL.equals(key) ? null : Long.valueOf(key);
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (id == null) {
+            cache.clear();
+        } else {
+            cache.evict(id);
+        }
+        if (remote) {
+            eventPublisher.publishEvent(new RemoteCacheEvictionEvent(cacheName, id));
+        }
+    }
+
+    private void reject(String payload, Exception ex) {
+        rejectedCounter.increment();
+        log.warn("Ignoring malformed cache invalidation: {}", payload, ex);
+    }
+
+    private void clearAllCaches() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void closeConnection() {
+        connected.set(false);
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ex) {
+                log.debug("Failed to close cache invalidation connection", ex);
+            }
+            connection = null;
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
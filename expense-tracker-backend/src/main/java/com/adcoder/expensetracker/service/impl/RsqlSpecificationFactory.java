@@ -0,0 +1,140 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.perplexhub.rsql.RSQLJPAPredicateConverter;
+import io.github.perplexhub.rsql.RSQLOperators;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Turns RSQL filter strings into JPA specifications.
+ * <p>
+ * The frontend sends the same few filters over and over, so the parsed AST is kept in a bounded
+ * LRU cache keyed by the normalized filter. A cache hit skips the parser entirely and only walks
+ * the cached AST to build the predicate. Malformed filters, filters on fields or with operators
+ * outside the allow-list, and values that do not convert to the field's type fail here with a 400,
+ * before any query is built.
+ */
+@Component
+@Slf4j
+public class RsqlSpecificationFactory {
+
+    // Expense attributes a filter may reference
+    private static final Set<String> TEXT_SELECTORS = Set.of("title", "category", "description");
+    // Converters matching the attribute types, so a bad value is a 400 rather than a failed query
+    private static final Map<String, Function<String, ?>> VALUE_SELECTORS = Map.of(
+            "id", Long::parseLong,
+            "amount", Long::parseLong,
+            "date", OffsetDateTime::parse);
+    // Pattern and case-insensitive operators only make sense on text columns
+    private static final Set<String> TEXT_ONLY_OPERATORS = Set.of("=like=", "=notlike=", "=icase=", "=ilike=", "=inotlike=");
+    // Null checks ignore their argument
+    private static final Set<String> NULL_CHECK_OPERATORS = Set.of("=isnull=", "=null=", "=na=", "=notnull=", "=isnotnull=", "=nn=");
+
+    private final RSQLParser parser = new RSQLParser(RSQLOperators.supportedOperators());
+    private final Cache<String, Node> parsedFilters;
+    private final Timer parseTimer;
+
+    public RsqlSpecificationFactory(
+            MeterRegistry meterRegistry,
+            @Value("${rsql.filter-cache.size:1000}") long cacheSize
+    ) {
+        this.parsedFilters = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        this.parseTimer = Timer.builder("rsql.parse")
+                .description("Time to parse an RSQL filter that was not in the cache")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, parsedFilters, "rsql-filters");
+    }
+
+    public <T> Specification<T> toSpecification(String filter) {
+        Node node = parse(filter);
+        return (root, query, cb) -> node.accept(new RSQLJPAPredicateConverter(cb, Collections.emptyMap()), root);
+    }
+
+    /**
+     * Parses the filter, or returns the cached AST for it.
+     *
+     * @throws ExpenseTrackerException with 400 if the filter is not valid RSQL, uses a field or
+     *                                 operator outside the allow-list, or compares a numeric or
+     *                                 date field with a value of another type
+     */
+    public Node parse(String filter) {
+        String normalized = filter.strip();
+        Node cached = parsedFilters.getIfPresent(normalized);
+        if (cached != null) {
+            return cached;
+        }
+
+        Node node;
+        try {
+            node = parseTimer.record(() -> parser.parse(normalized));
+        } catch (RSQLParserException ex) {
+            log.debug("Rejected RSQL filter '{}'", normalized, ex);
+            throw new ExpenseTrackerException("Invalid filter: " + normalized, HttpStatus.BAD_REQUEST);
+        }
+        checkComparisons(node);
+        parsedFilters.put(normalized, node);
+        return node;
+    }
+
+    private static void checkComparisons(Node node) {
+        if (node instanceof LogicalNode logical) {
+            for (Node child : logical.getChildren()) {
+                checkComparisons(child);
+            }
+            return;
+        }
+
+        ComparisonNode comparison = (ComparisonNode) node;
+        String selector = comparison.getSelector();
+        boolean text = TEXT_SELECTORS.contains(selector);
+        if (!text && !VALUE_SELECTORS.containsKey(selector)) {
+            throw new ExpenseTrackerException("Unsupported filter field: " + selector, HttpStatus.BAD_REQUEST);
+        }
+        if (!text && Arrays.stream(comparison.getOperator().getSymbols()).anyMatch(TEXT_ONLY_OPERATORS::contains)) {
+            throw new ExpenseTrackerException(
+                    "Unsupported filter operator " + comparison.getOperator().getSymbol() + " for field: " + selector,
+                    HttpStatus.BAD_REQUEST);
+        }
+        if (!text && !NULL_CHECK_OPERATORS.contains(comparison.getOperator().getSymbol())) {
+            checkValues(selector, comparison);
+        }
+    }
+
+    // ✅ Helper: convert every argument the way the predicate converter will, failing with 400
+    private static void checkValues(String selector, ComparisonNode comparison) {
+        Function<String, ?> converter = VALUE_SELECTORS.get(selector);
+        for (String argument : comparison.getArguments()) {
+            try {
+                converter.apply(argument);
+            } catch (NumberFormatException | DateTimeParseException ex) {
+                throw new ExpenseTrackerException(
+                        "Invalid value " + argument + " for filter field: " + selector, HttpStatus.BAD_REQUEST);
+            }
+        }
+    }
+}
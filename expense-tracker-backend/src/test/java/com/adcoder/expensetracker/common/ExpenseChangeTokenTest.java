@@ -0,0 +1,51 @@
+package com.adcoder.expensetracker.common;
+
+import org.junit.jupiter.api.Test;
+import java.time.Instant;
+
+import static com.adcoder.expensetracker.common.TokenAssertions.assertBadRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpenseChangeTokenTest {
+
+    @Test
+    void roundTripsBothPositionsToTheNanosecond() {
+        ExpenseChangeToken token = new ExpenseChangeToken(
+                Instant.parse("2025-03-14T09:26:53.589793238Z"), 7L,
+                Instant.parse("2025-03-15T00:00:00.000000001Z"), 11L);
+
+        assertThat(ExpenseChangeToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void roundTripsTheExtremeInstants() {
+        ExpenseChangeToken token = new ExpenseChangeToken(Instant.MAX, Long.MAX_VALUE, Instant.MIN, Long.MIN_VALUE);
+
+        assertThat(ExpenseChangeToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void startsBothPositionsAtTheSameInstant() {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        assertThat(ExpenseChangeToken.at(now)).isEqualTo(new ExpenseChangeToken(now, 0, now, 0));
+    }
+
+    @Test
+    void rejectsTokenWithoutSixFields() {
+        assertBadRequest(() -> ExpenseChangeToken.decode(TokenCodec.encode(1700000000, 0, 1, 1700000000, 0)));
+    }
+
+    @Test
+    void rejectsTokenWithNonNumericFields() {
+        assertBadRequest(() -> ExpenseChangeToken.decode(TokenCodec.encode(1700000000, 0, "abc", 1700000000, 0, 1)));
+        assertBadRequest(() -> ExpenseChangeToken.decode(TokenCodec.encode(1700000000, 0, 1, "today", 0, 1)));
+    }
+
+    @Test
+    void rejectsTokenOutsideTheSupportedInstantRange() {
+        assertBadRequest(() -> ExpenseChangeToken.decode(TokenCodec.encode(Long.MAX_VALUE, 0, 1, 1700000000, 0, 1)));
+        assertBadRequest(() -> ExpenseChangeToken.decode(
+                TokenCodec.encode(1700000000, 0, 1, Long.MAX_VALUE, 2_000_000_000, 1)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.adcoder.expensetracker.common;
+
+import org.junit.jupiter.api.Test;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static com.adcoder.expensetracker.common.TokenAssertions.assertBadRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpenseCursorTest {
+
+    @Test
+    void roundTripsDateAndIdInUtc() {
+        OffsetDateTime date = OffsetDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000, ZoneOffset.ofHours(5));
+        ExpenseCursor cursor = new ExpenseCursor(date, 42L);
+
+        ExpenseCursor decoded = ExpenseCursor.decode(cursor.encode());
+
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.date().toInstant()).isEqualTo(date.toInstant());
+        assertThat(decoded.date().getOffset()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    void rejectsCursorWithoutThreeFields() {
+        assertBadRequest(() -> ExpenseCursor.decode(TokenCodec.encode(1700000000, 0)));
+    }
+
+    @Test
+    void rejectsCursorWithNonNumericFields() {
+        assertBadRequest(() -> ExpenseCursor.decode(TokenCodec.encode(1700000000, 0, "abc")));
+        assertBadRequest(() -> ExpenseCursor.decode(TokenCodec.encode("yesterday", 0, 1)));
+    }
+
+    @Test
+    void rejectsCursorOutsideTheSupportedDateRange() {
+        assertBadRequest(() -> ExpenseCursor.decode(TokenCodec.encode(Long.MAX_VALUE, 0, 1)));
+        assertBadRequest(() -> ExpenseCursor.decode(TokenCodec.encode(Long.MAX_VALUE, 2_000_000_000, 1)));
+    }
+}
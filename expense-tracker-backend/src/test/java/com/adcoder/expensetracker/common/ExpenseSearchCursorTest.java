@@ -0,0 +1,41 @@
+package com.adcoder.expensetracker.common;
+
+import org.junit.jupiter.api.Test;
+
+import static com.adcoder.expensetracker.common.TokenAssertions.assertBadRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpenseSearchCursorTest {
+
+    @Test
+    void roundTripsTheExactRank() {
+        float rank = Math.nextUp(0.1f);
+        ExpenseSearchCursor cursor = new ExpenseSearchCursor(rank, 42L);
+
+        ExpenseSearchCursor decoded = ExpenseSearchCursor.decode(cursor.encode());
+
+        assertThat(Float.floatToIntBits(decoded.rank())).isEqualTo(Float.floatToIntBits(rank));
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTripsRanksWithTheSignBitSet() {
+        ExpenseSearchCursor cursor = new ExpenseSearchCursor(-0.0f, 1L);
+
+        assertThat(Float.floatToIntBits(ExpenseSearchCursor.decode(cursor.encode()).rank()))
+                .isEqualTo(Float.floatToIntBits(-0.0f));
+    }
+
+    @Test
+    void rejectsCursorWithoutTwoFields() {
+        assertBadRequest(() -> ExpenseSearchCursor.decode(TokenCodec.encode("3dcccccd")));
+        assertBadRequest(() -> ExpenseSearchCursor.decode(TokenCodec.encode("3dcccccd", 1, 2)));
+    }
+
+    @Test
+    void rejectsCursorWithMalformedFields() {
+        assertBadRequest(() -> ExpenseSearchCursor.decode(TokenCodec.encode("rank", 1)));
+        assertBadRequest(() -> ExpenseSearchCursor.decode(TokenCodec.encode("1ffffffff", 1)));
+        assertBadRequest(() -> ExpenseSearchCursor.decode(TokenCodec.encode("3dcccccd", "one")));
+    }
+}
@@ -0,0 +1,20 @@
+package com.adcoder.expensetracker.common;
+
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class TokenAssertions {
+
+    private TokenAssertions() {
+    }
+
+    static void assertBadRequest(ThrowingCallable decode) {
+        assertThatThrownBy(decode)
+                .isInstanceOfSatisfying(ExpenseTrackerException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,52 @@
+package com.adcoder.expensetracker.common;
+
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.adcoder.expensetracker.common.TokenAssertions.assertBadRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenCodecTest {
+
+    @Test
+    void roundTripsFields() {
+        String token = TokenCodec.encode(1700000000L, 0, "3dcccccd", -1L);
+
+        assertThat(TokenCodec.decode(token, 4, "token")).containsExactly("1700000000", "0", "3dcccccd", "-1");
+    }
+
+    @Test
+    void encodesAsUrlSafeBase64WithoutPadding() {
+        // Standard Base64 of "~~~~:??" is "fn5+fjo/Pw=="
+        String token = TokenCodec.encode("~~~~", "??");
+
+        assertThat(token).isEqualTo("fn5-fjo_Pw");
+    }
+
+    @Test
+    void rejectsTokenThatIsNotBase64() {
+        assertBadRequest(() -> TokenCodec.decode("not a token!", 2, "token"));
+    }
+
+    @Test
+    void rejectsTokenWithWrongNumberOfFields() {
+        assertBadRequest(() -> TokenCodec.decode(TokenCodec.encode(1), 2, "token"));
+        assertBadRequest(() -> TokenCodec.decode(TokenCodec.encode(1, 2, 3), 2, "token"));
+    }
+
+    @Test
+    void countsEmptyTrailingFields() {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString("1:".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(TokenCodec.decode(token, 2, "token")).containsExactly("1", "");
+        assertBadRequest(() -> TokenCodec.decode(token, 1, "token"));
+    }
+
+    @Test
+    void namesTheTokenInTheError() {
+        assertThatThrownBy(() -> TokenCodec.decode("!", 1, "change token"))
+                .hasMessage("Invalid change token");
+    }
+}
@@ -0,0 +1,139 @@
+package com.adcoder.expensetracker.filter;
+
+import com.adcoder.expensetracker.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void bucketAllowsABurstOfCapacityThenWaitsOneInterval() {
+        RateLimitFilter.Bucket bucket = new RateLimitFilter.Bucket(0);
+
+        // capacity 3 per 3s: one token per second, bursts of three
+        assertThat(bucket.tryAcquire(0, SECOND, 3 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(0, SECOND, 3 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(0, SECOND, 3 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(0, SECOND, 3 * SECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void bucketRefillsAtOneTokenPerInterval() {
+        RateLimitFilter.Bucket bucket = new RateLimitFilter.Bucket(0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(0, SECOND, 3 * SECOND);
+        }
+
+        assertThat(bucket.tryAcquire(SECOND / 2, SECOND, 3 * SECOND)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryAcquire(SECOND, SECOND, 3 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(SECOND, SECOND, 3 * SECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void bucketIdleForAFullPeriodAllowsAFullBurstAgain() {
+        RateLimitFilter.Bucket bucket = new RateLimitFilter.Bucket(0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(0, SECOND, 3 * SECOND);
+        }
+
+        long later = 10 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(later, SECOND, 3 * SECOND)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later, SECOND, 3 * SECOND)).isPositive();
+    }
+
+    @Test
+    void ignoresForwardedForFromUntrustedPeers() {
+        RateLimitFilter filter = filter(List.of("10.0.0.1"));
+
+        assertThat(filter.clientAddress(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void ignoresForwardedForWithoutTrustedProxies() {
+        RateLimitFilter filter = filter(List.of());
+
+        assertThat(filter.clientAddress(request("10.0.0.1", "198.51.100.1"))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void takesTheRightmostHopAddedByATrustedProxy() {
+        RateLimitFilter filter = filter(List.of("10.0.0.1"));
+
+        // The client sent the first entry itself
+        assertThat(filter.clientAddress(request("10.0.0.1", "1.1.1.1, 198.51.100.1"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void skipsFurtherTrustedHops() {
+        RateLimitFilter filter = filter(List.of("10.0.0.0/8"));
+
+        assertThat(filter.clientAddress(request("10.0.0.1", "198.51.100.1, 10.1.2.3"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void fallsBackToTheProxyOnMalformedHops() {
+        RateLimitFilter filter = filter(List.of("10.0.0.1"));
+
+        assertThat(filter.clientAddress(request("10.0.0.1", "evil.example"))).isEqualTo("10.0.0.1");
+        assertThat(filter.clientAddress(request("10.0.0.1", "1.2.3.456"))).isEqualTo("10.0.0.1");
+        assertThat(filter.clientAddress(request("10.0.0.1", null))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void throttlesClientsBehindATrustedProxyIndependently() throws ServletException, IOException {
+        RateLimitFilter filter = filter(List.of("10.0.0.1"));
+
+        assertThat(login(filter, "198.51.100.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(login(filter, "198.51.100.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        MockHttpServletResponse throttled = login(filter, "198.51.100.1");
+        assertThat(throttled.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(throttled.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+
+        assertThat(login(filter, "198.51.100.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private static RateLimitFilter filter(List<String> trustedProxies) {
+        RateLimitProperties.Route login = new RateLimitProperties.Route();
+        login.setName("login");
+        login.setPattern("/auth/login");
+        login.setCapacity(2);
+        login.setPeriod(Duration.ofMinutes(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setTrustedProxies(trustedProxies);
+        properties.setRoutes(List.of(login));
+        return new RateLimitFilter(properties, new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setServletPath("/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse login(RateLimitFilter filter, String client)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("10.0.0.1", client), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,115 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.AuditProperties;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.adcoder.expensetracker.model.AuditAction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncAuditServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void writesQueuedEntriesInBatchesAndDrainsThemOnShutdown() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(Set.of());
+        AsyncAuditService service = service(jdbcTemplate, 10);
+        for (long id = 1; id <= 7; id++) {
+            record(service, id);
+        }
+
+        service.start();
+        service.stop();
+
+        assertThat(jdbcTemplate.statements).containsExactly(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L));
+        assertThat(count("expense.audit.written")).isEqualTo(7);
+        assertThat(service.isRunning()).isFalse();
+    }
+
+    @Test
+    void dropsNewEntriesWhenTheQueueIsFull() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(Set.of());
+        AsyncAuditService service = service(jdbcTemplate, 2);
+        for (long id = 1; id <= 3; id++) {
+            record(service, id);
+        }
+
+        service.start();
+        service.stop();
+
+        assertThat(count("expense.audit.dropped")).isEqualTo(1);
+        assertThat(jdbcTemplate.statements).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    void retriesARejectedBatchRowByRow() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(Set.of(2L));
+        AsyncAuditService service = service(jdbcTemplate, 10);
+        for (long id = 1; id <= 3; id++) {
+            record(service, id);
+        }
+
+        service.start();
+        service.stop();
+
+        assertThat(jdbcTemplate.statements).containsExactly(List.of(1L), List.of(3L));
+        assertThat(count("expense.audit.written")).isEqualTo(2);
+        assertThat(count("expense.audit.failed")).isEqualTo(1);
+    }
+
+    private AsyncAuditService service(JdbcTemplate jdbcTemplate, int queueCapacity) {
+        AuditProperties properties = new AuditProperties();
+        properties.setQueueCapacity(queueCapacity);
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        properties.setDrainTimeout(Duration.ofSeconds(5));
+        return new AsyncAuditService(jdbcTemplate, new ObjectMapper(), properties, meterRegistry);
+    }
+
+    private static void record(AsyncAuditService service, long expenseId) {
+        ExpenseResponse expense = ExpenseResponse.builder().id(expenseId).title("Coffee").build();
+        service.recordExpenseChange(AuditAction.CREATE, 1L, null, expense);
+    }
+
+    private double count(String counter) {
+        return meterRegistry.get(counter).counter().count();
+    }
+
+    /**
+     * Keeps the expense ids of every successful insert and rejects any statement containing one of
+     * {@code rejected}, like a constraint violation would.
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<List<Long>> statements = new CopyOnWriteArrayList<>();
+        private final Set<Long> rejected;
+
+        private RecordingJdbcTemplate(Set<Long> rejected) {
+            this.rejected = rejected;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            List<Long> expenseIds = new ArrayList<>();
+            // Six columns per row, the expense id second
+            for (int i = 1; i < args.length; i += 6) {
+                expenseIds.add((Long) args[i]);
+            }
+            if (expenseIds.stream().anyMatch(rejected::contains)) {
+                throw new DataIntegrityViolationException("Rejected audit row");
+            }
+            statements.add(expenseIds);
+            return expenseIds.size();
+        }
+    }
+}
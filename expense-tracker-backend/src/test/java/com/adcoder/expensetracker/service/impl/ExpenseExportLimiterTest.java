@@ -0,0 +1,53 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.config.ExpenseExportProperties;
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpenseExportLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsExportsBeyondTheLimitWithServiceUnavailable() {
+        ExpenseExportLimiter limiter = limiter(2);
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOfSatisfying(ExpenseTrackerException.class, ex -> {
+                    assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(ex.getRetryAfterSeconds()).isEqualTo(30L);
+                });
+        assertThat(available()).isZero();
+    }
+
+    @Test
+    void releasedPermitCanBeTakenAgain() {
+        ExpenseExportLimiter limiter = limiter(1);
+        limiter.acquire();
+        limiter.release();
+
+        limiter.acquire();
+
+        assertThat(available()).isZero();
+    }
+
+    private ExpenseExportLimiter limiter(int maxConcurrent) {
+        ExpenseExportProperties properties = new ExpenseExportProperties();
+        properties.setMaxConcurrent(maxConcurrent);
+        properties.setRetryAfter(Duration.ofSeconds(30));
+        return new ExpenseExportLimiter(properties, meterRegistry);
+    }
+
+    private double available() {
+        return meterRegistry.get("expense.export.available").gauge().value();
+    }
+}
@@ -0,0 +1,67 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.common.ExportFormat;
+import com.adcoder.expensetracker.dto.ExpenseResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpenseExportWriterTest {
+
+    private static final String HEADER = "id,title,category,amount,date,description\n";
+
+    @Test
+    void writesHeaderEvenWithoutRows() throws IOException {
+        assertThat(exportCsv()).isEqualTo(HEADER);
+    }
+
+    @Test
+    void leavesPlainFieldsUnquoted() throws IOException {
+        ExpenseResponse expense = expense("Coffee", "Food", "Morning cup");
+
+        assertThat(exportCsv(expense))
+                .isEqualTo(HEADER + "1,Coffee,Food,450,2025-01-02T10:15Z,Morning cup\n");
+    }
+
+    @Test
+    void quotesFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        ExpenseResponse expense = expense("Lunch, dinner", "say \"hi\"", "line one\r\nline two");
+
+        assertThat(exportCsv(expense)).isEqualTo(HEADER
+                + "1,\"Lunch, dinner\",\"say \"\"hi\"\"\",450,2025-01-02T10:15Z,\"line one\r\nline two\"\n");
+    }
+
+    @Test
+    void writesNullFieldsAsEmpty() throws IOException {
+        ExpenseResponse expense = ExpenseResponse.builder().id(7L).build();
+
+        assertThat(exportCsv(expense)).isEqualTo(HEADER + "7,,,,,\n");
+    }
+
+    private static ExpenseResponse expense(String title, String category, String description) {
+        return ExpenseResponse.builder()
+                .id(1L)
+                .title(title)
+                .category(category)
+                .amount(450L)
+                .date(OffsetDateTime.of(2025, 1, 2, 10, 15, 0, 0, ZoneOffset.UTC))
+                .description(description)
+                .build();
+    }
+
+    private static String exportCsv(ExpenseResponse... expenses) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExpenseExportWriter writer = ExpenseExportWriter.create(ExportFormat.CSV, out, new ObjectMapper());
+        for (ExpenseResponse expense : expenses) {
+            writer.write(expense);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,50 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpenseSearchQueryTest {
+
+    @Test
+    void turnsEveryWordIntoAPrefixMatch() {
+        assertThat(ExpenseServiceImpl.toPrefixTsQuery("  coffee beans "))
+                .isEqualTo("coffee:* & beans:*");
+    }
+
+    @Test
+    void dropsTsQuerySyntaxFromTheInput() {
+        assertThat(ExpenseServiceImpl.toPrefixTsQuery("a&b | !c:* <-> (d)"))
+                .isEqualTo("a:* & b:* & c:* & d:*");
+        assertThat(ExpenseServiceImpl.toPrefixTsQuery("it's 'quoted'"))
+                .isEqualTo("it:* & s:* & quoted:*");
+    }
+
+    @Test
+    void keepsLettersAndDigitsOfAnyScript() {
+        assertThat(ExpenseServiceImpl.toPrefixTsQuery("caf\u00e9 2025 \u0447\u0430\u0439"))
+                .isEqualTo("caf\u00e9:* & 2025:* & \u0447\u0430\u0439:*");
+    }
+
+    @Test
+    void limitsTheNumberOfTerms() {
+        assertThat(ExpenseServiceImpl.toPrefixTsQuery("a b c d e f g h i j"))
+                .isEqualTo("a:* & b:* & c:* & d:* & e:* & f:* & g:* & h:*");
+    }
+
+    @Test
+    void rejectsQueryWithoutAnyWord() {
+        assertBadRequest(null);
+        assertBadRequest("   ");
+        assertBadRequest("!&|:*()");
+    }
+
+    private static void assertBadRequest(String query) {
+        assertThatThrownBy(() -> ExpenseServiceImpl.toPrefixTsQuery(query))
+                .isInstanceOfSatisfying(ExpenseTrackerException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,76 @@
+package com.adcoder.expensetracker.service.impl;
+
+import com.adcoder.expensetracker.exception.ExpenseTrackerException;
+import cz.jirutka.rsql.parser.ast.Node;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RsqlSpecificationFactoryTest {
+
+    private final RsqlSpecificationFactory factory = new RsqlSpecificationFactory(new SimpleMeterRegistry(), 100);
+
+    @Test
+    void acceptsFiltersOnKnownFields() {
+        assertThat(factory.parse("category=in=(Food,Travel);amount>=500;title=ilike=*coffee*")).isNotNull();
+        assertThat(factory.parse("date=ge=2025-01-01T00:00:00Z,id==3")).isNotNull();
+    }
+
+    @Test
+    void servesRepeatedFiltersFromTheCache() {
+        Node first = factory.parse("category==Food");
+
+        assertThat(factory.parse("  category==Food ")).isSameAs(first);
+    }
+
+    @Test
+    void rejectsMalformedFilter() {
+        assertBadRequest("category==");
+        assertBadRequest("category=foo=Food");
+    }
+
+    @Test
+    void rejectsUnknownSelector() {
+        assertBadRequest("foo==1");
+        assertBadRequest("authUser.password==secret");
+    }
+
+    @Test
+    void rejectsUnknownSelectorNestedInLogicalNodes() {
+        assertBadRequest("category==Food;(amount>10,foo==1)");
+    }
+
+    @Test
+    void rejectsTextOperatorsOnNonTextFields() {
+        assertBadRequest("amount=like=5");
+        assertBadRequest("date=ilike=*2025*");
+    }
+
+    @Test
+    void rejectsValuesThatDoNotMatchTheFieldType() {
+        assertBadRequest("amount==abc");
+        assertBadRequest("id=in=(1,x)");
+        assertBadRequest("date=gt=notadate");
+        assertBadRequest("date=ge=2025-01-01");
+    }
+
+    @Test
+    void acceptsNullChecksOnValueFields() {
+        assertThat(factory.parse("date=isnull=true")).isNotNull();
+    }
+
+    @Test
+    void doesNotCacheRejectedFilters() {
+        assertBadRequest("foo==1");
+        assertBadRequest("foo==1");
+    }
+
+    private void assertBadRequest(String filter) {
+        assertThatThrownBy(() -> factory.parse(filter))
+                .isInstanceOfSatisfying(ExpenseTrackerException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}